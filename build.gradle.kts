@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,9 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.micrometer.registry.prometheus)
+    implementation(libs.caffeine)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,11 +35,21 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark tasks
+// ./gradlew jmh -PjmhThreads=64 -PjmhIncludes=PointChargeServiceBenchmark [-PjmhProfilers=gc]
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    threads.set(findProperty("jmhThreads")?.toString()?.toInt() ?: 1)
+    findProperty("jmhIncludes")?.toString()?.let { includes.add(it) }
+    findProperty("jmhProfilers")?.toString()?.let { profilers.add(it) }
+    resultFormat.set("JSON")
 }
 
 // bundling tasks
@@ -48,5 +62,20 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("performance")
+    }
+    // 가상 스레드가 carrier 스레드를 점유(pinning)하면 스택 트레이스를 출력합니다.
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+// ./gradlew performanceTest : 처리량을 비교하는 @Tag("performance") 테스트만 실행합니다.
+tasks.register<Test>("performanceTest") {
+    description = "Runs throughput comparison tests tagged with 'performance'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("performance")
+    }
+    shouldRunAfter(tasks.test)
 }
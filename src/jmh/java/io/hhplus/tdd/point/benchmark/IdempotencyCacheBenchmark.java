@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.global.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * Idempotency-Key를 사용할 때 요청마다 추가되는 비용(ns/op)을 측정합니다.
+ * 실제 충전/사용 비용을 제외하기 위해 처리는 미리 만든 UserPoint를 반환하는 것으로 대신합니다.
+ * - withoutKey : 키 없이 바로 처리하는 경우(기준값)
+ * - firstRequest : 처음 보는 키로 처리하고 결과를 보관하는 경우이며, 보관된 키가 maximumSize를 넘으면 제거 비용이 포함됩니다.
+ * - retriedRequest : 이미 처리한 키로 재시도하여 보관된 결과를 반환하는 경우
+ * 스레드 수는 -PjmhThreads 옵션(1 ~ 64)으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdempotencyCacheBenchmark {
+	private static final long AMOUNT = 1000L;
+	private static final UserPoint RESULT = new UserPoint(1L, AMOUNT, 1L);
+
+	/**
+	 * 재시도할 때 사용할, 이미 처리한 키의 개수입니다.
+	 */
+	@Param({"1000", "100000"})
+	public int keyCount;
+
+	@Param({"100000"})
+	public long maximumSize;
+
+	private IdempotencyCache idempotencyCache;
+	private IdempotencyCache.Key[] processedKeys;
+	private final AtomicLong nextKey = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		idempotencyCache = new IdempotencyCache(Duration.ofHours(1), maximumSize);
+		processedKeys = new IdempotencyCache.Key[keyCount];
+		for (int index = 0; index < keyCount; index++) {
+			processedKeys[index] = new IdempotencyCache.Key("charge", index, "processed-" + index);
+			idempotencyCache.execute(processedKeys[index], AMOUNT, () -> RESULT);
+		}
+	}
+
+	@Benchmark
+	public UserPoint withoutKey() {
+		return execute();
+	}
+
+	@Benchmark
+	public UserPoint firstRequest() {
+		final long sequence = nextKey.incrementAndGet();
+		return idempotencyCache.execute(new IdempotencyCache.Key("charge", sequence, "new-" + sequence), AMOUNT,
+			IdempotencyCacheBenchmark::execute);
+	}
+
+	@Benchmark
+	public UserPoint retriedRequest() {
+		final IdempotencyCache.Key key = processedKeys[ThreadLocalRandom.current().nextInt(keyCount)];
+		return idempotencyCache.execute(key, AMOUNT, IdempotencyCacheBenchmark::execute);
+	}
+
+	private static UserPoint execute() {
+		return RESULT;
+	}
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.DirectPointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.hhplus.tdd.point.application.PointUseService;
+import io.hhplus.tdd.point.application.ReentrantLockedPointChargeService;
+import io.hhplus.tdd.point.application.ReentrantLockedPointUseService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * 충전과 사용이 동시에 실행될 때의 처리량을 비교합니다.
+ * - SEPARATE : 충전과 사용이 서로 다른 잠금을 사용하던 기존 방식 (Lost Update 발생 가능)
+ * - SHARED : 충전과 사용이 하나의 UserLockManager를 공유하는 방식
+ * 충전 스레드 8개와 사용 스레드 8개가 하나의 그룹으로 실행됩니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointChargeAndUseBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final int STRIPES = 1024;
+	private static final long INITIAL_POINT = 5_000_000L;
+
+	@Param({"SEPARATE", "SHARED"})
+	public LockSharing lockSharing;
+
+	@Param({"HOT", "UNIFORM", "ZIPF"})
+	public UserIdDistribution distribution;
+
+	@Param({"false", "true"})
+	public boolean throttle;
+
+	private UserPointTable userPointTable;
+	private PointChargeService pointChargeService;
+	private PointUseService pointUseService;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		userPointTable = throttle ? new UserPointTable() : new UnthrottledUserPointTable();
+		PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+		UserLockManager chargeLockManager = new UserLockManager(new StripedLockPool(STRIPES));
+		UserLockManager useLockManager = lockSharing == LockSharing.SHARED
+			? chargeLockManager
+			: new UserLockManager(new StripedLockPool(STRIPES));
+		UserPointStore userPointStore = new UserPointTableStore(userPointTable);
+		pointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), userPointStore, chargeLockManager,
+			PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT);
+		pointUseService = new ReentrantLockedPointUseService(
+			userPointStore, new DirectPointHistoryRecorder(pointHistoryTable), useLockManager,
+			PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
+	}
+
+	@Benchmark
+	@Group("chargeAndUse")
+	@GroupThreads(8)
+	public UserPoint charge() {
+		final long userId = distribution.next(ThreadLocalRandom.current());
+		try {
+			return pointChargeService.execute(new PointChargeService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			return userPointTable.insertOrUpdate(userId, INITIAL_POINT);
+		}
+	}
+
+	@Benchmark
+	@Group("chargeAndUse")
+	@GroupThreads(8)
+	public UserPoint use() {
+		final long userId = distribution.next(ThreadLocalRandom.current());
+		try {
+			return pointUseService.execute(new PointUseService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			return userPointTable.insertOrUpdate(userId, INITIAL_POINT);
+		}
+	}
+
+	public enum LockSharing {
+		SEPARATE, SHARED
+	}
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.DirectPointHistoryRecorder;
+import io.hhplus.tdd.point.application.NonThreadSafePointChargeService;
+import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.hhplus.tdd.point.application.ReentrantLockedPointChargeService;
+import io.hhplus.tdd.point.application.ShardedPointChargeService;
+import io.hhplus.tdd.point.application.ShardedPointMutationExecutor;
+import io.hhplus.tdd.point.application.SynchronizedBlockPointChargeService;
+import io.hhplus.tdd.point.application.SynchronizedKeywordPointChargeService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * PointChargeService 구현체별 처리량과 지연 시간(p50/p99)을 측정합니다.
+ * Mode.Throughput은 초당 처리 건수를, Mode.SampleTime은 p50/p99를 포함한 지연 시간 분포를 보여줍니다.
+ * 스레드 수는 -PjmhThreads 옵션(1 ~ 64)으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointChargeServiceBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final int STRIPES = 1024;
+	private static final int MAX_BATCH_SIZE = 256;
+
+	@Param({"NON_THREAD_SAFE", "SYNCHRONIZED_KEYWORD", "SYNCHRONIZED_BLOCK", "REENTRANT_LOCKED", "SHARDED",
+		"SHARDED_BATCHING"})
+	public Implementation implementation;
+
+	@Param({"HOT", "UNIFORM", "ZIPF"})
+	public UserIdDistribution distribution;
+
+	/**
+	 * true이면 UserPointTable/PointHistoryTable의 임의 지연을 그대로 사용하고,
+	 * false이면 지연을 제거하여 잠금 오버헤드만 측정합니다.
+	 */
+	@Param({"false", "true"})
+	public boolean throttle;
+
+	private UserPointTable userPointTable;
+	private PointChargeService pointChargeService;
+	private final List<AutoCloseable> resources = new ArrayList<>();
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		userPointTable = throttle ? new UserPointTable() : new UnthrottledUserPointTable();
+		PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+		pointChargeService = implementation.create(pointHistoryTable, userPointTable, resources);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() throws Exception {
+		for (AutoCloseable resource : resources) {
+			resource.close();
+		}
+		resources.clear();
+	}
+
+	@Benchmark
+	public UserPoint charge() {
+		final long userId = distribution.next(ThreadLocalRandom.current());
+		try {
+			return pointChargeService.execute(new PointChargeService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			// 최대 보유 포인트에 도달한 사용자는 잔액을 초기화하여 측정을 이어갑니다.
+			return userPointTable.insertOrUpdate(userId, 0L);
+		}
+	}
+
+	public enum Implementation {
+		NON_THREAD_SAFE {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				return new NonThreadSafePointChargeService(pointHistoryTable, userPointTable);
+			}
+		},
+		SYNCHRONIZED_KEYWORD {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				return new SynchronizedKeywordPointChargeService(pointHistoryTable, userPointTable);
+			}
+		},
+		SYNCHRONIZED_BLOCK {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				return new SynchronizedBlockPointChargeService(pointHistoryTable, userPointTable);
+			}
+		},
+		REENTRANT_LOCKED {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				return new ReentrantLockedPointChargeService(
+					new DirectPointHistoryRecorder(pointHistoryTable), new UserPointTableStore(userPointTable),
+					new UserLockManager(new StripedLockPool(STRIPES)), PointTransactionLog.NO_OP,
+					PointStageTimer.NO_OP, PointPolicyResolver.DEFAULT);
+			}
+		},
+		SHARDED {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				ShardedPointMutationExecutor shardedPointMutationExecutor = new ShardedPointMutationExecutor(
+					new UserPointTableStore(userPointTable), new DirectPointHistoryRecorder(pointHistoryTable),
+					Runtime.getRuntime().availableProcessors());
+				resources.add(shardedPointMutationExecutor);
+				return new ShardedPointChargeService(shardedPointMutationExecutor);
+			}
+		},
+		/**
+		 * 같은 사용자의 요청을 최대 MAX_BATCH_SIZE건씩 묶어 한 번의 조회/저장으로 처리합니다.
+		 */
+		SHARDED_BATCHING {
+			@Override
+			PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+				List<AutoCloseable> resources) {
+				ShardedPointMutationExecutor shardedPointMutationExecutor = new ShardedPointMutationExecutor(
+					new UserPointTableStore(userPointTable), new DirectPointHistoryRecorder(pointHistoryTable),
+					Runtime.getRuntime().availableProcessors(), MAX_BATCH_SIZE);
+				resources.add(shardedPointMutationExecutor);
+				return new ShardedPointChargeService(shardedPointMutationExecutor);
+			}
+		};
+
+		abstract PointChargeService create(PointHistoryTable pointHistoryTable, UserPointTable userPointTable,
+			List<AutoCloseable> resources);
+	}
+}
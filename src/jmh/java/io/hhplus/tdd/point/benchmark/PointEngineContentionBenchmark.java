@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.OptimisticPointChargeService;
+import io.hhplus.tdd.point.application.OptimisticPointMutationExecutor;
+import io.hhplus.tdd.point.application.OptimisticPointUseService;
+import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.hhplus.tdd.point.application.PointUseService;
+import io.hhplus.tdd.point.application.ReentrantLockedPointChargeService;
+import io.hhplus.tdd.point.application.ReentrantLockedPointUseService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * 경합이 커질수록 ReentrantLock 엔진과 optimistic(compare-and-set) 엔진의 처리량과 지연 시간이 어떻게 달라지는지 비교합니다.
+ * 모든 스레드가 userCount명의 회원 중 한 명을 골라 1 포인트를 충전하거나 사용하므로, userCount가 작을수록 같은 회원에 대한 경합이 커집니다.
+ * 두 엔진 모두 같은 PrimitiveUserPointStore를 사용하고 내역은 기록하지 않아, 잔액을 변경하는 동시성 제어 비용만 측정합니다.
+ * 반복(iteration)이 끝날 때마다 optimistic 엔진의 충돌 비율(충돌한 시도 / 요청)을 출력합니다.
+ * 스레드 수는 -PjmhThreads 옵션(1 ~ 64)으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointEngineContentionBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final long INITIAL_POINT = 5_000_000L;
+	private static final int STRIPES = 1024;
+	private static final int MAX_ATTEMPTS = 16;
+	private static final long INITIAL_BACKOFF_NANOS = 1_000L;
+	private static final long MAX_BACKOFF_NANOS = 1_000_000L;
+	private static final PointHistoryRecorder NO_OP_RECORDER = (userId, amount, type, updateMillis) -> {
+	};
+
+	@Param({"REENTRANT_LOCKED", "OPTIMISTIC"})
+	public Engine engine;
+
+	/**
+	 * 요청이 분산되는 회원 수이며, 1이면 모든 요청이 한 명에게 몰립니다.
+	 */
+	@Param({"1", "4", "16", "64", "1024", "1000000"})
+	public int userCount;
+
+	private UserPointStore userPointStore;
+	private PointChargeService pointChargeService;
+	private PointUseService pointUseService;
+	private OptimisticPointMutationExecutor optimisticPointMutationExecutor;
+	private final LongAdder requestCount = new LongAdder();
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		userPointStore = new PrimitiveUserPointStore(64, userCount);
+		for (long userId = 0; userId < userCount; userId++) {
+			userPointStore.insertOrUpdate(userId, INITIAL_POINT);
+		}
+		if (engine == Engine.OPTIMISTIC) {
+			optimisticPointMutationExecutor = new OptimisticPointMutationExecutor(userPointStore, NO_OP_RECORDER,
+				PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP, MAX_ATTEMPTS,
+				INITIAL_BACKOFF_NANOS, MAX_BACKOFF_NANOS);
+			pointChargeService = new OptimisticPointChargeService(optimisticPointMutationExecutor);
+			pointUseService = new OptimisticPointUseService(optimisticPointMutationExecutor);
+		} else {
+			UserLockManager userLockManager = new UserLockManager(new StripedLockPool(STRIPES));
+			pointChargeService = new ReentrantLockedPointChargeService(NO_OP_RECORDER, userPointStore,
+				userLockManager, PointTransactionLog.NO_OP, PointStageTimer.NO_OP, PointPolicyResolver.DEFAULT);
+			pointUseService = new ReentrantLockedPointUseService(userPointStore, NO_OP_RECORDER, userLockManager,
+				PointTransactionLog.NO_OP, PointStageTimer.NO_OP, PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
+		}
+		requestCount.reset();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if (optimisticPointMutationExecutor != null && requestCount.sum() > 0) {
+			System.out.printf("%n[%s users = %d] conflicts per request = %.3f%n", engine, userCount,
+				(double)optimisticPointMutationExecutor.conflictCount() / requestCount.sum());
+		}
+	}
+
+	/**
+	 * 충전과 사용을 절반씩 요청하여 잔액이 최대 보유 포인트나 0에 도달하지 않도록 했습니다.
+	 * 재시도 횟수를 모두 소진하여 실패한 요청도 처리한 요청에 포함됩니다.
+	 */
+	@Benchmark
+	public UserPoint chargeOrUse() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final long userId = random.nextInt(userCount);
+		requestCount.increment();
+		try {
+			if (random.nextBoolean()) {
+				return pointChargeService.execute(
+					new PointChargeService.Command(userId, AMOUNT, System.currentTimeMillis()));
+			}
+			return pointUseService.execute(new PointUseService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			return null;
+		}
+	}
+
+	public enum Engine {
+		REENTRANT_LOCKED,
+		OPTIMISTIC
+	}
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.CachedUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.point.application.PointReadByIdService;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 잔액 캐시 유무에 따른 PointReadByIdService의 조회 지연 시간(p50/p99)을 측정합니다.
+ * 조회 비용 자체를 비교해야 하므로 UserPointTable의 임의 지연(최대 200ms)을 그대로 사용합니다.
+ * 캐시 크기는 USER_COUNT보다 작게 두어, 분포에 따라 적중률이 달라지도록 했습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointReadBenchmark {
+	private static final long MAXIMUM_SIZE = UserIdDistribution.USER_COUNT / 10;
+
+	@Param({"UNIFORM", "ZIPF"})
+	public UserIdDistribution distribution;
+
+	@Param({"false", "true"})
+	public boolean cache;
+
+	private CachedUserPointTable cachedUserPointTable;
+	private PointReadByIdService pointReadByIdService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		cachedUserPointTable = cache ? new CachedUserPointTable(MAXIMUM_SIZE) : null;
+		UserPointTable userPointTable = cache ? cachedUserPointTable : new UserPointTable();
+		pointReadByIdService = new PointReadByIdService(new UserPointTableStore(userPointTable));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (cachedUserPointTable != null) {
+			long hitCount = cachedUserPointTable.hitCount();
+			long missCount = cachedUserPointTable.missCount();
+			System.out.printf("%n[cache] hit = %d, miss = %d, hit ratio = %.2f%n", hitCount, missCount,
+				(double)hitCount / Math.max(1L, hitCount + missCount));
+		}
+	}
+
+	@Benchmark
+	public UserPoint read() {
+		return pointReadByIdService.read(distribution.next(ThreadLocalRandom.current()));
+	}
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.point.application.RollingWindowPointSpendLimiter;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * 최근 1시간 동안 사용한 포인트를 검증하는 비용을 회원의 내역 수별로 비교합니다.
+ * - scanHistory : 사용할 때마다 회원의 내역을 모두 조회하여 최근 1시간의 사용 포인트를 합산하는 방식
+ * - rollingWindow : RollingWindowPointSpendLimiter로 시간 구간별 합계만 갱신하는 방식
+ * scanHistory는 내역 수에 비례하여 느려지고, rollingWindow는 내역 수와 관계없이 일정해야 합니다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PointSpendLimiterBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointSpendLimiterBenchmark {
+	private static final long USER_ID = 1L;
+	private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1L);
+	private static final long STEP_MILLIS = 1_000L;
+
+	@Param({"100", "10000"})
+	public int historyCount;
+
+	private IndexedPointHistoryTable pointHistoryTable;
+	private RollingWindowPointSpendLimiter pointSpendLimiter;
+	private long currentTimeMillis;
+
+	@Setup
+	public void setUp() {
+		pointHistoryTable = new IndexedPointHistoryTable(0L);
+		pointSpendLimiter = new RollingWindowPointSpendLimiter(0L, Long.MAX_VALUE, 12, ZoneOffset.UTC, 1_000L);
+		for (int index = 0; index < historyCount; index++) {
+			pointHistoryTable.insert(USER_ID, 1L, TransactionType.USE, index * STEP_MILLIS);
+			pointSpendLimiter.consume(USER_ID, 1L, index * STEP_MILLIS);
+		}
+		currentTimeMillis = historyCount * STEP_MILLIS;
+	}
+
+	@Benchmark
+	public long scanHistory() {
+		final long from = currentTimeMillis - HOUR_MILLIS;
+		long usedPoint = 0L;
+		for (PointHistory pointHistory : pointHistoryTable.selectAllByUserIdOrderByIdDesc(USER_ID)) {
+			if (pointHistory.type() == TransactionType.USE && pointHistory.updateMillis() > from) {
+				usedPoint += pointHistory.amount();
+			}
+		}
+		return usedPoint;
+	}
+
+	@Benchmark
+	public void rollingWindow() {
+		currentTimeMillis += STEP_MILLIS;
+		pointSpendLimiter.consume(USER_ID, 1L, currentTimeMillis);
+	}
+}
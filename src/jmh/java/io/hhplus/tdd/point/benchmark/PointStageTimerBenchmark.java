@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.DirectPointHistoryRecorder;
+import io.hhplus.tdd.point.application.MicrometerPointStageTimer;
+import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.hhplus.tdd.point.application.ReentrantLockedPointChargeService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * 단계별 Timer(point.stage)를 기록할 때와 기록하지 않을 때(NO_OP) 포인트 충전의 처리량과 지연 시간을 비교합니다.
+ * 요청 한 건마다 System.nanoTime() 7회와 Timer 기록 6회가 추가되며, 그 비용이 전체 처리 시간에서 차지하는 비율을 확인합니다.
+ * - throttle=true : UserPointTable/PointHistoryTable의 임의 지연을 그대로 사용하며, 실제 운영에 가까운 비율입니다.
+ * - throttle=false : 지연을 제거하여 잠금과 지표 기록 비용만 남기므로, 지표 기록 비용이 가장 크게 드러납니다.
+ * <pre>
+ * ./gradlew jmh -PjmhThreads=16 -PjmhIncludes=PointStageTimerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointStageTimerBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final int STRIPES = 1024;
+
+	@Param({"NO_OP", "MICROMETER"})
+	public Metrics metrics;
+
+	@Param({"false", "true"})
+	public boolean throttle;
+
+	private UserPointTable userPointTable;
+	private PointChargeService pointChargeService;
+	private PrometheusMeterRegistry meterRegistry;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		userPointTable = throttle ? new UserPointTable() : new UnthrottledUserPointTable();
+		PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+		meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		pointChargeService = new ReentrantLockedPointChargeService(new DirectPointHistoryRecorder(pointHistoryTable),
+			new UserPointTableStore(userPointTable), new UserLockManager(new StripedLockPool(STRIPES)),
+			PointTransactionLog.NO_OP, metrics.create(meterRegistry), PointPolicyResolver.DEFAULT);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		meterRegistry.close();
+	}
+
+	@Benchmark
+	public UserPoint charge() {
+		final long userId = UserIdDistribution.UNIFORM.next(ThreadLocalRandom.current());
+		try {
+			return pointChargeService.execute(
+				new PointChargeService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			// 최대 보유 포인트에 도달한 사용자는 잔액을 초기화하여 측정을 이어갑니다.
+			return userPointTable.insertOrUpdate(userId, 0L);
+		}
+	}
+
+	public enum Metrics {
+		NO_OP {
+			@Override
+			PointStageTimer create(PrometheusMeterRegistry meterRegistry) {
+				return PointStageTimer.NO_OP;
+			}
+		},
+		MICROMETER {
+			@Override
+			PointStageTimer create(PrometheusMeterRegistry meterRegistry) {
+				return new MicrometerPointStageTimer(meterRegistry);
+			}
+		};
+
+		abstract PointStageTimer create(PrometheusMeterRegistry meterRegistry);
+	}
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.FilePointTransactionLog;
+import io.hhplus.tdd.database.FsyncPolicy;
+import io.hhplus.tdd.database.PointBalanceSnapshotter;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * 전체 내역 수(historySize)에 따른 시작 시 잔액 복구 시간을 측정합니다.
+ * - snapshot = false : 로그 전체를 처음부터 다시 적용합니다.
+ * - snapshot = true : 가장 최근 snapshot을 읽고, rolling이 끝나지 않은 마지막 segment의 내역만 다시 적용합니다.
+ * 로그와 snapshot은 trial마다 한 번 만들고, 측정할 때마다 로그를 다시 열어 빈 저장소에 잔액을 복구합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PointStartupBenchmark {
+	private static final long SEGMENT_BYTES = 16L * 1024 * 1024;
+	private static final int USER_COUNT = 100_000;
+
+	@Param({"1000000", "10000000"})
+	public long historySize;
+
+	@Param({"false", "true"})
+	public boolean snapshot;
+
+	private Path directory;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-startup-benchmark");
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory(), FsyncPolicy.OS,
+			0, SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory(), 0)) {
+			for (long sequence = 0; sequence < historySize; sequence++) {
+				pointTransactionLog.append(new PointTransactionLog.Entry(sequence % USER_COUNT, TransactionType.CHARGE,
+					10L, sequence));
+			}
+			if (snapshot) {
+				pointBalanceSnapshotter.snapshot();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Benchmark
+	public int rebuildBalances() {
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory(), FsyncPolicy.OS,
+			0, SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory(), 0)) {
+			return pointBalanceSnapshotter.rebuildBalances(new PrimitiveUserPointStore(16, USER_COUNT));
+		}
+	}
+
+	private Path logDirectory() {
+		return directory.resolve("log");
+	}
+
+	private Path snapshotDirectory() {
+		return directory.resolve("snapshot");
+	}
+}
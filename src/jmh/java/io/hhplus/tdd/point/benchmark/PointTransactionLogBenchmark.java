@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.FilePointTransactionLog;
+import io.hhplus.tdd.database.FsyncPolicy;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * fsync 정책별 PointTransactionLog의 기록 처리량(ops/sec)을 측정합니다.
+ * GROUP 정책은 기록한 스레드가 다음 fsync까지 대기하므로, 스레드 수를 늘려야(-PjmhThreads=64) 묶음 효과를 확인할 수 있습니다.
+ * segment 크기를 작게 두어 측정 중에 segment rolling 비용도 함께 포함되도록 했습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointTransactionLogBenchmark {
+	private static final long SEGMENT_BYTES = 16L * 1024 * 1024;
+	private static final long USER_COUNT = 10_000L;
+
+	@Param({"EVERY_WRITE", "GROUP", "OS"})
+	public FsyncPolicy fsync;
+
+	@Param({"5"})
+	public long groupCommitMillis;
+
+	private Path directory;
+	private FilePointTransactionLog pointTransactionLog;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-log-benchmark");
+		pointTransactionLog = new FilePointTransactionLog(directory, fsync, groupCommitMillis, SEGMENT_BYTES);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		pointTransactionLog.close();
+		System.out.printf("%n[%s] records = %d%n", fsync, pointTransactionLog.writtenSequence());
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Benchmark
+	public void append() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		pointTransactionLog.append(new PointTransactionLog.Entry(random.nextLong(USER_COUNT), TransactionType.CHARGE,
+			1000L, System.currentTimeMillis()));
+	}
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.PointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.PointTransferService;
+import io.hhplus.tdd.point.application.ReentrantLockedPointTransferService;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * 임의의 두 회원 사이에서 포인트를 선물할 때의 처리량과 지연 시간(p50/p99)을 측정합니다.
+ * 두 회원의 잠금을 stripe 번호 순서로 획득하므로, stripes가 1이면 모든 선물이 하나의 잠금으로 직렬화되는 경우와 같습니다.
+ * 잔액은 PrimitiveUserPointStore에 저장하고 내역은 기록하지 않아, 두 회원의 잠금을 획득하는 비용만 측정합니다.
+ * 스레드 수는 -PjmhThreads 옵션(1 ~ 64)으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointTransferBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final long INITIAL_POINT = 5_000_000L;
+	private static final PointHistoryRecorder NO_OP_RECORDER = (userId, amount, type, updateMillis) -> {
+	};
+
+	/**
+	 * 선물을 주고받는 회원 수이며, 작을수록 같은 회원에 대한 경합이 커집니다.
+	 */
+	@Param({"2", "64", "100000"})
+	public int userCount;
+
+	@Param({"1", "64", "1024"})
+	public int stripes;
+
+	private PointTransferService pointTransferService;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(64, userCount);
+		for (long userId = 0; userId < userCount; userId++) {
+			userPointStore.insertOrUpdate(userId, INITIAL_POINT);
+		}
+		pointTransferService = new ReentrantLockedPointTransferService(userPointStore, NO_OP_RECORDER,
+			new UserLockManager(new StripedLockPool(stripes)), PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT,
+			PointSpendLimiter.NO_OP);
+	}
+
+	@Benchmark
+	public PointTransferService.Result transfer() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final long senderId = random.nextInt(userCount);
+		final long receiverId = (senderId + 1 + random.nextInt(userCount - 1)) % userCount;
+		try {
+			return pointTransferService.execute(
+				new PointTransferService.Command(senderId, receiverId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			// 보내는 회원의 잔액이 부족한 경우이며, 충분한 잔액으로 시작하므로 측정 중에는 거의 발생하지 않습니다.
+			return null;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.application.DirectPointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointUseService;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.hhplus.tdd.point.application.ReentrantLockedPointUseService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * PointUseService의 처리량과 지연 시간(p50/p99)을 측정합니다.
+ * 스레드 수는 -PjmhThreads 옵션(1 ~ 64)으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointUseServiceBenchmark {
+	private static final long AMOUNT = 1L;
+	private static final int STRIPES = 1024;
+	private static final long INITIAL_POINT = 10_000_000L;
+
+	@Param({"HOT", "UNIFORM", "ZIPF"})
+	public UserIdDistribution distribution;
+
+	/**
+	 * true이면 UserPointTable/PointHistoryTable의 임의 지연을 그대로 사용하고,
+	 * false이면 지연을 제거하여 잠금 오버헤드만 측정합니다.
+	 */
+	@Param({"false", "true"})
+	public boolean throttle;
+
+	private UserPointTable userPointTable;
+	private PointUseService pointUseService;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		userPointTable = throttle ? new UserPointTable() : new UnthrottledUserPointTable();
+		PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+		pointUseService = new ReentrantLockedPointUseService(
+			new UserPointTableStore(userPointTable), new DirectPointHistoryRecorder(pointHistoryTable),
+			new UserLockManager(new StripedLockPool(STRIPES)), PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
+	}
+
+	@Benchmark
+	public UserPoint use() {
+		final long userId = distribution.next(ThreadLocalRandom.current());
+		try {
+			return pointUseService.execute(new PointUseService.Command(userId, AMOUNT, System.currentTimeMillis()));
+		} catch (ApplicationException e) {
+			// 잔액이 부족한 사용자는 잔액을 다시 채워 측정을 이어갑니다.
+			return userPointTable.insertOrUpdate(userId, INITIAL_POINT);
+		}
+	}
+}
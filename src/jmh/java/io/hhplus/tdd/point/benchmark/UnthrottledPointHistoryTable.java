@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * 임의 지연(throttle)을 제거한 PointHistoryTable입니다.
+ * 지연이 없으면 초당 수백만 건의 내역이 쌓여 측정 도중 힙이 고갈되므로, 내역을 생성만 하고 보관하지 않습니다.
+ */
+public class UnthrottledPointHistoryTable extends PointHistoryTable {
+	private final AtomicLong cursor = new AtomicLong(1);
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return List.of();
+	}
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 임의 지연(throttle)을 제거한 UserPointTable입니다.
+ * UserPointTable은 변경하지 않아야 하므로 공개된 API를 재정의하여 잠금 자체의 오버헤드만 측정할 수 있도록 했습니다.
+ * 지연이 없으면 Thread-Safe 하지 않은 구현체가 HashMap 내부 구조를 손상시켜 벤치마크가 중단될 수 있으므로 ConcurrentHashMap을 사용했습니다.
+ */
+public class UnthrottledUserPointTable extends UserPointTable {
+	private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+	@Override
+	public UserPoint selectById(Long id) {
+		return table.getOrDefault(id, UserPoint.empty(id));
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+		table.put(id, userPoint);
+		return userPoint;
+	}
+}
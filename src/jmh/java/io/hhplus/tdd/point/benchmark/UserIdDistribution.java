@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청이 어떤 사용자에게 몰리는지를 결정하는 분포입니다.
+ * - HOT : 모든 요청이 한 명의 사용자에게 몰립니다.
+ * - UNIFORM : USER_COUNT명의 사용자에게 균등하게 분산됩니다.
+ * - ZIPF : 소수의 사용자에게 요청이 집중되는 Zipf(s=1.0) 분포를 따릅니다.
+ */
+public enum UserIdDistribution {
+	HOT {
+		@Override
+		public long next(ThreadLocalRandom random) {
+			return 1L;
+		}
+	},
+	UNIFORM {
+		@Override
+		public long next(ThreadLocalRandom random) {
+			return 1L + random.nextInt(USER_COUNT);
+		}
+	},
+	ZIPF {
+		@Override
+		public long next(ThreadLocalRandom random) {
+			int index = Arrays.binarySearch(ZIPF_CUMULATIVE_PROBABILITIES, random.nextDouble());
+			// binarySearch는 값을 찾지 못하면 (-(삽입 위치) - 1)을 반환합니다.
+			return 1L + (index >= 0 ? index : -index - 1);
+		}
+	};
+
+	public static final int USER_COUNT = 10_000;
+	private static final double ZIPF_EXPONENT = 1.0;
+	private static final double[] ZIPF_CUMULATIVE_PROBABILITIES = zipfCumulativeProbabilities();
+
+	public abstract long next(ThreadLocalRandom random);
+
+	private static double[] zipfCumulativeProbabilities() {
+		double[] weights = new double[USER_COUNT];
+		double totalWeight = 0;
+		for (int rank = 0; rank < USER_COUNT; rank++) {
+			weights[rank] = 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+			totalWeight += weights[rank];
+		}
+
+		double[] cumulativeProbabilities = new double[USER_COUNT];
+		double cumulativeWeight = 0;
+		for (int rank = 0; rank < USER_COUNT; rank++) {
+			cumulativeWeight += weights[rank];
+			cumulativeProbabilities[rank] = cumulativeWeight / totalWeight;
+		}
+		// 부동소수점 오차로 마지막 값이 1.0보다 작아지는 것을 방지합니다.
+		cumulativeProbabilities[USER_COUNT - 1] = 1.0;
+		return cumulativeProbabilities;
+	}
+}
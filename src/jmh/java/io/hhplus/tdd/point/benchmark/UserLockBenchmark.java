@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.global.lock.StripedLockPool;
+
+/**
+ * 사용자별 잠금 Map과 StripedLockPool의 메모리 사용량과 잠금 획득/해제 처리량을 비교합니다.
+ * 메모리 사용량은 Trial 시작 시 userCount명의 잠금을 생성한 뒤 GC 이후 힙 사용량 차이로 계산하여 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserLockBenchmark {
+	private static final int STRIPES = 1024;
+
+	@Param({"CONCURRENT_HASH_MAP", "STRIPED"})
+	public Registry registry;
+
+	@Param({"100000", "1000000", "10000000"})
+	public int userCount;
+
+	private UserLockRegistry userLockRegistry;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final long before = usedHeap();
+		userLockRegistry = registry.create();
+		for (long userId = 1; userId <= userCount; userId++) {
+			userLockRegistry.get(userId);
+		}
+		final long after = usedHeap();
+		System.out.printf("%n[%s] users=%d, retained=%,d bytes (%.1f bytes/user)%n",
+			registry, userCount, after - before, (double)(after - before) / userCount);
+	}
+
+	@Benchmark
+	public Lock lockAndUnlock() {
+		final long userId = 1L + ThreadLocalRandom.current().nextInt(userCount);
+		Lock lock = userLockRegistry.get(userId);
+		lock.lock();
+		try {
+			return lock;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static long usedHeap() {
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		for (int count = 0; count < 3; count++) {
+			System.gc();
+		}
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+
+	interface UserLockRegistry {
+		Lock get(long userId);
+	}
+
+	public enum Registry {
+		/**
+		 * 기존 ReentrantLocked 서비스가 사용하던 사용자별 잠금 Map입니다.
+		 */
+		CONCURRENT_HASH_MAP {
+			@Override
+			UserLockRegistry create() {
+				Map<Long, Lock> userIdToLockMap = new ConcurrentHashMap<>();
+				return userId -> userIdToLockMap.computeIfAbsent(userId, (id) -> new ReentrantLock(true));
+			}
+		},
+		STRIPED {
+			@Override
+			UserLockRegistry create() {
+				return new StripedLockPool(STRIPES)::get;
+			}
+		};
+
+		abstract UserLockRegistry create();
+	}
+}
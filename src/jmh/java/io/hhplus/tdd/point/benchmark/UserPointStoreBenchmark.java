@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 잔액 저장소별 회원 1명당 메모리 사용량과 조회/저장 처리량(ops/sec)을 측정합니다.
+ * - HASH_MAP : UserPointTable과 같은 Map&lt;Long, UserPoint&gt; 구조이며, 지연을 제거한 UnthrottledUserPointTable을 사용합니다.
+ * - PRIMITIVE : PrimitiveUserPointStore
+ * userCount명의 잔액을 미리 저장한 뒤 측정하며, 저장 전후 힙 사용량의 차이를 회원 수로 나눈 값을 출력합니다.
+ * 연산당 할당량은 -PjmhProfilers=gc 옵션의 gc.alloc.rate.norm 값으로 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UserPointStoreBenchmark {
+	private static final long AMOUNT = 1000L;
+
+	@Param({"10000000"})
+	public int userCount;
+
+	@Param({"HASH_MAP", "PRIMITIVE"})
+	public StoreType store;
+
+	private UserPointStore userPointStore;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final long before = usedHeap();
+		userPointStore = store.create(userCount);
+		for (long userId = 1; userId <= userCount; userId++) {
+			userPointStore.insertOrUpdate(userId, AMOUNT);
+		}
+		final long after = usedHeap();
+		System.out.printf("%n[%s] users = %d, heap = %d MB, bytes per user = %.1f%n", store, userCount,
+			(after - before) / (1024 * 1024), (double)(after - before) / userCount);
+	}
+
+	@Benchmark
+	public UserPoint read() {
+		return userPointStore.selectById(nextUserId());
+	}
+
+	@Benchmark
+	public UserPoint write() {
+		return userPointStore.insertOrUpdate(nextUserId(), AMOUNT);
+	}
+
+	private long nextUserId() {
+		return 1L + ThreadLocalRandom.current().nextInt(userCount);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	public enum StoreType {
+		HASH_MAP {
+			@Override
+			UserPointStore create(int userCount) {
+				return new UserPointTableStore(new UnthrottledUserPointTable());
+			}
+		},
+		PRIMITIVE {
+			@Override
+			UserPointStore create(int userCount) {
+				return new PrimitiveUserPointStore(Runtime.getRuntime().availableProcessors() * 4, userCount);
+			}
+		};
+
+		abstract UserPointStore create(int userCount);
+	}
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.text.NumberFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+
+/**
+ * 포인트 사용이 거절될 때(잔액 부족, 한도 초과)와 충전에 성공할 때의 처리량을 검증 방식별로 비교합니다.
+ * - legacy* : 요청마다 stack trace를 기록한 ApplicationException과 NumberFormat 메시지를 만들고, 성공하면 builder로 생성하던 이전 방식
+ * - use, charge : 미리 만들어 둔 stack trace 없는 예외를 발생시키고, 성공하면 생성자로 생성하는 현재 방식
+ * - validateUse : 예외 없이 PointErrorCode만 반환하는 방식
+ * 실제 요청은 Spring MVC를 거쳐 호출 스택이 훨씬 깊으므로, stack trace 기록 비용은 이 측정값보다 더 큽니다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=UserPointValidationBenchmark -PjmhProfilers=gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPointValidationBenchmark {
+	private static final long MAXIMUM_USABLE_POINT = 1_000_000L;
+	private static final long UPDATE_MILLIS = 1L;
+
+	/**
+	 * - INSUFFICIENT_POINT : 잔액보다 많은 포인트를 사용하는 요청
+	 * - USE_AMOUNT_EXCEEDED : 한 번에 사용할 수 있는 포인트를 초과하는 요청(메시지에 NumberFormat 사용)
+	 */
+	@Param({"INSUFFICIENT_POINT", "USE_AMOUNT_EXCEEDED"})
+	public PointErrorCode rejection;
+
+	private UserPoint userPoint;
+	private long rejectedAmount;
+
+	@Setup
+	public void setUp() {
+		userPoint = new UserPoint(1L, 1_000L, UPDATE_MILLIS);
+		rejectedAmount = rejection == PointErrorCode.INSUFFICIENT_POINT ? 2_000L : MAXIMUM_USABLE_POINT + 1;
+	}
+
+	@Benchmark
+	public String legacyUse() {
+		try {
+			return String.valueOf(legacyUse(userPoint, rejectedAmount).point());
+		} catch (ApplicationException e) {
+			return e.getMessage();
+		}
+	}
+
+	@Benchmark
+	public String use() {
+		try {
+			return String.valueOf(userPoint.use(rejectedAmount, UPDATE_MILLIS).point());
+		} catch (ApplicationException e) {
+			return e.getMessage();
+		}
+	}
+
+	@Benchmark
+	public PointErrorCode validateUse() {
+		return userPoint.validateUse(rejectedAmount);
+	}
+
+	@Benchmark
+	public UserPoint legacyCharge() {
+		return UserPoint.builder()
+			.id(userPoint.id())
+			.point(userPoint.point() + 1L)
+			.updateMillis(UPDATE_MILLIS)
+			.build();
+	}
+
+	@Benchmark
+	public UserPoint charge() {
+		return userPoint.charge(1L, UPDATE_MILLIS);
+	}
+
+	/**
+	 * 이전 UserPoint.use의 검증과 생성 방식을 그대로 옮겼습니다.
+	 */
+	private static UserPoint legacyUse(UserPoint userPoint, long amount) {
+		if (amount > MAXIMUM_USABLE_POINT) {
+			final String formattedMaximumUsablePoint = NumberFormat.getNumberInstance().format(MAXIMUM_USABLE_POINT);
+			throw new ApplicationException(formattedMaximumUsablePoint + " 포인트를 초과하여 사용할 수 없습니다.");
+		}
+		if (amount < 1) {
+			throw new ApplicationException("1 포인트 미만으로 포인트를 사용할 수 없습니다.");
+		}
+		if (userPoint.point() - amount < 0) {
+			throw new ApplicationException("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
+		}
+		return UserPoint.builder()
+			.id(userPoint.id())
+			.point(userPoint.point() - amount)
+			.updateMillis(UPDATE_MILLIS)
+			.build();
+	}
+}
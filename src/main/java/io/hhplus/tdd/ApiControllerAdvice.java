@@ -1,11 +1,14 @@
 package io.hhplus.tdd;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.exception.NotImplementedException;
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
 import lombok.extern.slf4j.Slf4j;
 
 @RestControllerAdvice
@@ -16,6 +19,18 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 		return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
 	}
 
+	@ExceptionHandler(value = TooManyRequestsException.class)
+	public ResponseEntity<ErrorResponse> handleException(TooManyRequestsException e) {
+		return ResponseEntity.status(429)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse("429", e.getMessage()));
+	}
+
+	@ExceptionHandler(value = NotImplementedException.class)
+	public ResponseEntity<ErrorResponse> handleException(NotImplementedException e) {
+		return ResponseEntity.status(501).body(new ErrorResponse("501", e.getMessage()));
+	}
+
 	@ExceptionHandler(value = Exception.class)
 	public ResponseEntity<ErrorResponse> handleException(Exception e) {
 		log.error("occurred unknown exception = {}", e.getMessage());
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * UserPointTable 앞에 잔액 캐시를 두어, 캐시에 있는 잔액은 UserPointTable을 거치지 않고(최대 200ms) 바로 반환합니다.
+ * - 크기가 제한된 Caffeine 캐시(W-TinyLFU)를 사용하여 자주 조회되는 회원의 잔액을 남깁니다.
+ * - insertOrUpdate로 저장에 성공하면 저장된 잔액으로 캐시를 갱신하므로, 조회 시 이전 잔액을 반환하지 않습니다.
+ * - 캐시 적중/미스 횟수를 지표(cache.gets)로 제공합니다.
+ * UserPointTable은 변경하지 않고 상속하여 공개된 API만 사용합니다.
+ */
+public class CachedUserPointTable extends UserPointTable implements MeterBinder {
+    private static final String CACHE_NAME = "userPoint";
+
+    private final Cache<Long, UserPoint> cache;
+
+    public CachedUserPointTable(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없는 경우에만 UserPointTable에서 조회합니다.
+     * cache.get(id, loader)는 ConcurrentHashMap.compute 안에서 적재하므로, UserPointTable의 지연(최대 200ms) 동안
+     * 같은 bin의 다른 회원까지 막고 가상 스레드의 carrier 스레드를 점유(pinning)합니다.
+     * 그래서 잠금 밖에서 조회한 뒤 putIfAbsent로 넣고, 그 사이에 저장된 잔액이 있으면 그 잔액을 반환합니다.
+     * insertOrUpdate는 저장한 뒤 put으로 덮어쓰므로, 조회가 늦게 끝나더라도 이전 잔액이 저장된 잔액을 덮어쓰지 않습니다.
+     */
+    @Override
+    public UserPoint selectById(Long id) {
+        UserPoint cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        UserPoint loaded = super.selectById(id);
+        UserPoint raced = cache.asMap().putIfAbsent(id, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = super.insertOrUpdate(id, amount);
+        cache.put(id, userPoint);
+        return userPoint;
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
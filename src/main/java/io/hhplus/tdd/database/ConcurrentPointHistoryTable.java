@@ -0,0 +1,140 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 동시에 기록해도 id가 중복되거나 내역이 유실되지 않는 PointHistoryTable입니다.
+ * PointHistoryTable.insert는 cursor++와 ArrayList.add를 동기화 없이 실행하므로, 동시에 기록하면 id가 중복되거나 내역이 유실됩니다.
+ * <p>
+ * id는 AtomicLong에서 발급하며, 발급된 id는 1부터 빈틈없이 이어지므로 (id - 1)번째 칸이 해당 내역의 자리가 됩니다.
+ * 칸은 고정 크기(2^14) segment로 나누어 필요할 때 CAS로 추가하므로, 배열을 복사하여 늘리거나 잠금을 잡지 않고 기록합니다.
+ * 내역은 칸에 volatile로 기록되어, insert()가 반환된 내역은 다른 스레드의 조회에서도 보입니다.
+ * <p>
+ * PointHistoryTable은 변경하지 않고 상속하여 insert와 selectAllByUserId만 재정의하며, PointHistoryTable의 목록은 사용하지 않습니다.
+ * PointHistoryTable.insert와 같이 기록할 때마다 0~300ms의 임의 지연으로 I/O 시간을 흉내 내며,
+ * 지연은 id를 발급하기 전에 두므로 잠든 동안 다른 스레드의 기록을 막지 않습니다.
+ */
+public class ConcurrentPointHistoryTable extends PointHistoryTable {
+    private static final int SEGMENT_SHIFT = 14;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final long DEFAULT_MAX_THROTTLE_MILLIS = 300L;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReferenceArray<AtomicReferenceArray<PointHistory>> segments =
+            new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private final long maxThrottleMillis;
+
+    /**
+     * PointHistoryTable과 같이 기록할 때마다 최대 300ms 동안 기다립니다.
+     */
+    public ConcurrentPointHistoryTable() {
+        this(DEFAULT_MAX_THROTTLE_MILLIS);
+    }
+
+    /**
+     * @param maxThrottleMillis 기록할 때마다 기다리는 임의 지연의 최대값이며, 0이면 기다리지 않습니다.
+     */
+    public ConcurrentPointHistoryTable(long maxThrottleMillis) {
+        this.maxThrottleMillis = maxThrottleMillis;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        throttle();
+        return append(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 여러 내역을 한 번의 지연으로 기록하여, 저장소에 한 번 왕복하여 여러 건을 기록하는 batch insert를 흉내 냅니다.
+     * 목록의 순서대로 id를 발급하지만, 다른 스레드가 동시에 기록하면 그 내역과 id가 섞일 수 있습니다.
+     */
+    public List<PointHistory> insertAll(List<NewPointHistory> newPointHistories) {
+        throttle();
+        final List<PointHistory> pointHistories = new ArrayList<>(newPointHistories.size());
+        for (NewPointHistory newPointHistory : newPointHistories) {
+            pointHistories.add(append(newPointHistory.userId(), newPointHistory.amount(), newPointHistory.type(),
+                    newPointHistory.updateMillis()));
+        }
+        return Collections.unmodifiableList(pointHistories);
+    }
+
+    /**
+     * 지연 없이 id를 발급하여 칸에 기록합니다.
+     */
+    protected PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        final long id = sequence.incrementAndGet();
+        final long index = id - 1;
+        if (index >= (long) MAX_SEGMENTS * SEGMENT_SIZE) {
+            throw new IllegalStateException("저장할 수 있는 포인트 내역 수를 넘었습니다. id = " + id);
+        }
+        PointHistory pointHistory = new PointHistory(id, userId, amount, type, updateMillis);
+        segmentOf(index).set((int) (index & SEGMENT_MASK), pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * id 오름차순으로 반환합니다.
+     * id는 발급되었지만 아직 칸에 기록되지 않은 내역은 포함하지 않습니다.
+     */
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        final long count = sequence.get();
+        final List<PointHistory> pointHistories = new ArrayList<>();
+        for (long index = 0; index < count; index++) {
+            AtomicReferenceArray<PointHistory> segment = segments.get((int) (index >>> SEGMENT_SHIFT));
+            PointHistory pointHistory = segment == null ? null : segment.get((int) (index & SEGMENT_MASK));
+            if (pointHistory != null && pointHistory.userId() == userId) {
+                pointHistories.add(pointHistory);
+            }
+        }
+        return Collections.unmodifiableList(pointHistories);
+    }
+
+    /**
+     * 지금까지 발급한 id 수입니다.
+     */
+    public long size() {
+        return sequence.get();
+    }
+
+    /**
+     * id가 발급되기 전의 내역입니다.
+     */
+    public record NewPointHistory(long userId, long amount, TransactionType type, long updateMillis) {
+    }
+
+    /**
+     * PointHistoryTable.throttle은 private이므로 같은 방식으로 다시 구현합니다.
+     */
+    private void throttle() {
+        if (maxThrottleMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * maxThrottleMillis));
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+
+    private AtomicReferenceArray<PointHistory> segmentOf(long index) {
+        final int segmentIndex = (int) (index >>> SEGMENT_SHIFT);
+        AtomicReferenceArray<PointHistory> segment = segments.get(segmentIndex);
+        if (segment == null) {
+            // 여러 스레드가 동시에 만들더라도 CAS에 성공한 segment 하나만 사용합니다.
+            segments.compareAndSet(segmentIndex, null, new AtomicReferenceArray<>(SEGMENT_SIZE));
+            segment = segments.get(segmentIndex);
+        }
+        return segment;
+    }
+}
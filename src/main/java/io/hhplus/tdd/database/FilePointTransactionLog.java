@@ -0,0 +1,507 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 충전/사용 내역을 디렉터리 안의 segment 파일에 이어서 기록하는(append-only) PointTransactionLog입니다.
+ * <p>
+ * 내역 하나는 고정 크기(32바이트) 레코드로 기록합니다.
+ * <pre>
+ * record = [userId][amount][updateMillis][type(1) + padding(3)][CRC32C(4)]
+ * </pre>
+ * segment 파일이 segmentBytes를 넘으면 새로운 segment 파일로 넘어가며(rolling),
+ * 파일 이름은 해당 segment에 처음 기록된 레코드의 순번입니다.
+ * <p>
+ * 파일을 열 때 마지막 segment를 검사하여, 기록하는 도중에 종료되어 CRC가 맞지 않는 꼬리 부분을 잘라냅니다.
+ * replay()는 지정한 순번 이후의 내역을 기록된 순서대로 읽으며, PointBalanceSnapshotter가 이를 이용해 잔액을 복구합니다.
+ * rolling이 끝난 segment는 더 이상 바뀌지 않으므로, replaySealed()는 lock 없이 읽어 기록을 막지 않습니다.
+ */
+@Slf4j
+public class FilePointTransactionLog implements PointTransactionLog, AutoCloseable {
+    static final int RECORD_SIZE = 32;
+
+    private static final int CHECKSUM_OFFSET = 28;
+    private static final int READ_BUFFER_RECORDS = 2048;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final long segmentBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private final ByteBuffer singleRecordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+    private final Thread flusher;
+
+    private FileChannel channel;
+    private long segmentPosition;
+    private long segmentFirstSequence;
+    private long writtenSequence;
+    private long syncedSequence;
+    private IOException flushFailure;
+    private IOException truncateFailure;
+    private volatile boolean closed = false;
+
+    /**
+     * @param groupCommitMillis GROUP 정책에서 fsync하는 주기이며, 다른 정책에서는 사용하지 않습니다.
+     * @param segmentBytes      segment 파일 하나의 최대 크기
+     */
+    public FilePointTransactionLog(Path directory, FsyncPolicy fsyncPolicy, long groupCommitMillis,
+            long segmentBytes) {
+        if (segmentBytes < RECORD_SIZE) {
+            throw new IllegalArgumentException("segment 크기는 " + RECORD_SIZE + "바이트 이상이어야 합니다. segmentBytes = "
+                    + segmentBytes);
+        }
+        if (fsyncPolicy == FsyncPolicy.GROUP && groupCommitMillis < 1) {
+            throw new IllegalArgumentException("group commit 주기는 1ms 이상이어야 합니다. groupCommitMillis = "
+                    + groupCommitMillis);
+        }
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            openLastSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 열 수 없습니다. directory = " + directory, e);
+        }
+        this.syncedSequence = writtenSequence;
+        if (fsyncPolicy == FsyncPolicy.GROUP) {
+            this.flusher = new Thread(() -> flushPeriodically(groupCommitMillis), "point-log-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    @Override
+    public void append(Entry entry) {
+        lock.lock();
+        try {
+            singleRecordBuffer.clear();
+            encode(singleRecordBuffer, entry);
+            singleRecordBuffer.flip();
+            write(singleRecordBuffer, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void appendAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * entries.size());
+        for (Entry entry : entries) {
+            encode(buffer, entry);
+        }
+        buffer.flip();
+        lock.lock();
+        try {
+            write(buffer, entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 순번이 fromSequence 이상인 내역을 기록된 순서대로 전달합니다.
+     * 읽는 동안 기록을 막으므로, 시작할 때 잔액을 복구하는 용도로 사용합니다.
+     */
+    public void replay(long fromSequence, Consumer<Entry> consumer) {
+        lock.lock();
+        try {
+            replay(segments(), fromSequence, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 읽을 수 없습니다. directory = " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * rolling이 끝난 segment에서 순번이 fromSequence 이상인 내역을 기록된 순서대로 전달합니다.
+     * segment 목록을 확인할 때만 lock을 잡으므로, 읽는 동안에도 현재 segment에 계속 기록할 수 있습니다.
+     *
+     * @return 전달한 마지막 내역의 다음 순번이며, 현재 segment의 첫 순번입니다.
+     */
+    public long replaySealed(long fromSequence, Consumer<Entry> consumer) {
+        final long sealedSequence;
+        final List<Path> sealedSegments;
+        lock.lock();
+        try {
+            sealedSequence = segmentFirstSequence;
+            sealedSegments = segments().stream()
+                    .filter(segment -> firstSequenceOf(segment) < sealedSequence)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 읽을 수 없습니다. directory = " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            replay(sealedSegments, fromSequence, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 읽을 수 없습니다. directory = " + directory, e);
+        }
+        return sealedSequence;
+    }
+
+    /**
+     * 모든 내역의 순번이 sequence보다 작은 segment를 삭제합니다. 현재 segment는 삭제하지 않습니다.
+     *
+     * @return 삭제한 segment 수
+     */
+    public int deleteSegmentsBefore(long sequence) {
+        lock.lock();
+        try {
+            final List<Path> segments = segments();
+            int deletedCount = 0;
+            for (int index = 0; index + 1 < segments.size(); index++) {
+                if (firstSequenceOf(segments.get(index + 1)) > sequence) {
+                    break;
+                }
+                Files.delete(segments.get(index));
+                deletedCount++;
+            }
+            return deletedCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 삭제할 수 없습니다. directory = " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 내역 수입니다.
+     */
+    public long writtenSequence() {
+        lock.lock();
+        try {
+            return writtenSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새로운 내역을 받지 않고, 기록된 내역을 모두 fsync한 뒤 파일을 닫습니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+            syncedSequence = writtenSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            synced.signalAll();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock을 획득한 상태에서 호출합니다.
+     * 기록하는 도중에 실패하면 이번에 기록한 부분을 잘라내므로, 실패로 응답한 내역이 로그에 남지 않고
+     * 이후의 내역이 손상된 레코드 뒤에 기록되지 않습니다.
+     */
+    private void write(ByteBuffer buffer, int recordCount) {
+        if (closed) {
+            throw new IllegalStateException("포인트 로그가 닫혔습니다.");
+        }
+        if (truncateFailure != null) {
+            throw new UncheckedIOException("실패한 기록을 잘라내지 못해 포인트 로그에 기록할 수 없습니다.", truncateFailure);
+        }
+        final long sequence;
+        try {
+            if (segmentPosition > 0 && segmentPosition + buffer.remaining() > segmentBytes) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 기록할 수 없습니다. directory = " + directory, e);
+        }
+        final long startPosition = segmentPosition;
+        try {
+            while (buffer.hasRemaining()) {
+                segmentPosition += channel.write(buffer);
+            }
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            truncate(startPosition, e);
+            throw new UncheckedIOException("포인트 로그를 기록할 수 없습니다. directory = " + directory, e);
+        }
+        writtenSequence += recordCount;
+        sequence = writtenSequence;
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            syncedSequence = sequence;
+        }
+        if (fsyncPolicy == FsyncPolicy.GROUP) {
+            awaitSynced(sequence);
+        }
+    }
+
+    /**
+     * 현재 segment를 마지막으로 성공한 기록의 끝(position)까지 잘라냅니다.
+     * 잘라내지 못하면 손상된 레코드 뒤에 이어서 기록하지 않도록, 이후의 기록을 모두 거절합니다.
+     */
+    private void truncate(long position, IOException failure) {
+        try {
+            channel.truncate(position);
+            channel.position(position);
+            segmentPosition = position;
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+            truncateFailure = e;
+            log.error("포인트 로그의 실패한 기록을 잘라낼 수 없습니다. directory = {}, position = {}", directory, position, e);
+        }
+    }
+
+    /**
+     * 대기하는 동안 lock을 놓으므로, 다른 스레드가 이어서 기록하여 다음 fsync에 함께 포함될 수 있습니다.
+     */
+    private void awaitSynced(long sequence) {
+        while (syncedSequence < sequence) {
+            if (flushFailure != null) {
+                throw new UncheckedIOException("포인트 로그를 디스크에 기록할 수 없습니다.", flushFailure);
+            }
+            // flusher가 종료된 뒤에는 close()가 남은 내역을 fsync하고 깨워 줍니다.
+            synced.awaitUninterruptibly();
+        }
+    }
+
+    private void flushPeriodically(long groupCommitMillis) {
+        while (!closed) {
+            try {
+                Thread.sleep(groupCommitMillis);
+            } catch (InterruptedException e) {
+                // close()가 호출되면 깨어나서 종료하고, 남은 내역은 close()에서 fsync합니다.
+                return;
+            }
+            flush();
+        }
+    }
+
+    /**
+     * fsync하는 동안에는 lock을 놓아, 다음 group에 포함될 내역을 계속 기록할 수 있도록 합니다.
+     */
+    private void flush() {
+        final long target;
+        final FileChannel current;
+        lock.lock();
+        try {
+            if (syncedSequence == writtenSequence) {
+                return;
+            }
+            target = writtenSequence;
+            current = channel;
+        } finally {
+            lock.unlock();
+        }
+
+        IOException failure = null;
+        try {
+            current.force(false);
+        } catch (ClosedChannelException e) {
+            // fsync하는 사이에 segment가 넘어갔으며, 이전 segment는 닫기 전에 fsync되었습니다.
+        } catch (IOException e) {
+            log.error("포인트 로그 fsync 중 에러가 발생했습니다. directory = {}", directory, e);
+            failure = e;
+        }
+
+        lock.lock();
+        try {
+            if (failure != null) {
+                flushFailure = failure;
+            } else if (target > syncedSequence) {
+                syncedSequence = target;
+            }
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 segment를 fsync하고 닫은 뒤, 다음 순번으로 새로운 segment를 만듭니다.
+     */
+    private void rollSegment() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.OS) {
+            channel.force(false);
+            syncedSequence = writtenSequence;
+            synced.signalAll();
+        }
+        channel.close();
+        channel = FileChannel.open(segmentPath(writtenSequence), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        segmentPosition = 0;
+        segmentFirstSequence = writtenSequence;
+    }
+
+    /**
+     * 마지막 segment에서 CRC가 맞는 레코드까지만 남기고, 그 뒤에 이어서 기록하도록 엽니다.
+     */
+    private void openLastSegment() throws IOException {
+        final List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            channel = FileChannel.open(segmentPath(0), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return;
+        }
+        final Path last = segments.get(segments.size() - 1);
+        final long validRecords = scan(last, 0, (entry) -> {
+        });
+        channel = FileChannel.open(last, StandardOpenOption.WRITE);
+        if (channel.size() > validRecords * RECORD_SIZE) {
+            log.warn("포인트 로그의 손상된 꼬리 부분을 잘라냅니다. segment = {}, size = {}, valid = {}", last,
+                    channel.size(), validRecords * RECORD_SIZE);
+            channel.truncate(validRecords * RECORD_SIZE);
+            channel.force(false);
+        }
+        segmentPosition = validRecords * RECORD_SIZE;
+        channel.position(segmentPosition);
+        segmentFirstSequence = firstSequenceOf(last);
+        writtenSequence = segmentFirstSequence + validRecords;
+    }
+
+    /**
+     * 다음 segment의 첫 순번이 fromSequence 이하이면, 해당 segment에는 전달할 내역이 없으므로 건너뜁니다.
+     */
+    private static void replay(List<Path> segments, long fromSequence, Consumer<Entry> consumer) throws IOException {
+        for (int index = 0; index < segments.size(); index++) {
+            if (index + 1 < segments.size() && firstSequenceOf(segments.get(index + 1)) <= fromSequence) {
+                continue;
+            }
+            final Path segment = segments.get(index);
+            scan(segment, Math.max(fromSequence - firstSequenceOf(segment), 0), consumer);
+        }
+    }
+
+    /**
+     * segment의 레코드를 처음부터 읽어 앞의 skipRecords건을 제외하고 전달하며, CRC가 맞지 않는 레코드를 만나면 멈춥니다.
+     *
+     * @return CRC가 맞는 레코드 수
+     */
+    private static long scan(Path segment, long skipRecords, Consumer<Entry> consumer) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * READ_BUFFER_RECORDS);
+        long validRecords = 0;
+        try (FileChannel reader = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (reader.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                if (buffer.remaining() < RECORD_SIZE && reader.position() == reader.size()) {
+                    return validRecords;
+                }
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    final Entry entry = decode(buffer);
+                    if (entry == null) {
+                        return validRecords;
+                    }
+                    if (validRecords >= skipRecords) {
+                        consumer.accept(entry);
+                    }
+                    validRecords++;
+                }
+                buffer.compact();
+            }
+        }
+        return validRecords;
+    }
+
+    private static void encode(ByteBuffer buffer, Entry entry) {
+        final int start = buffer.position();
+        buffer.putLong(entry.userId());
+        buffer.putLong(entry.amount());
+        buffer.putLong(entry.updateMillis());
+        buffer.put(typeCode(entry.type()));
+        buffer.put(new byte[CHECKSUM_OFFSET - (buffer.position() - start)]);
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    /**
+     * @return CRC가 맞지 않으면 null
+     */
+    private static Entry decode(ByteBuffer buffer) {
+        final int start = buffer.position();
+        if (buffer.getInt(start + CHECKSUM_OFFSET) != checksum(buffer, start)) {
+            return null;
+        }
+        final long userId = buffer.getLong();
+        final long amount = buffer.getLong();
+        final long updateMillis = buffer.getLong();
+        final TransactionType type = typeOf(buffer.get());
+        buffer.position(start + RECORD_SIZE);
+        return type == null ? null : new Entry(userId, type, amount, updateMillis);
+    }
+
+    private static int checksum(ByteBuffer buffer, int start) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start, CHECKSUM_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * enum 순서가 바뀌어도 기존 로그를 읽을 수 있도록 코드를 고정합니다.
+     */
+    private static byte typeCode(TransactionType type) {
+        return switch (type) {
+            case CHARGE -> 1;
+            case USE -> 2;
+        };
+    }
+
+    private static TransactionType typeOf(byte code) {
+        return switch (code) {
+            case 1 -> TransactionType.CHARGE;
+            case 2 -> TransactionType.USE;
+            default -> null;
+        };
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        final String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 로그를 디스크에 기록(fsync)하는 시점입니다.
+ * - EVERY_WRITE : 기록할 때마다 fsync한 뒤 반환합니다. 가장 안전하지만 처리량이 fsync 횟수에 묶입니다.
+ * - GROUP : 일정 주기(groupCommitMillis)마다 그동안 기록된 내역을 한 번에 fsync하고, 기록한 스레드는 fsync가 끝날 때까지 대기합니다.
+ * - OS : fsync하지 않고 OS에 맡깁니다. 프로세스가 종료되어도 유실되지 않지만, 전원 장애 시 최근 내역이 유실될 수 있습니다.
+ */
+public enum FsyncPolicy {
+    EVERY_WRITE, GROUP, OS
+}
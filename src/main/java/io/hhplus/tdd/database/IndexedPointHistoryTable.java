@@ -0,0 +1,116 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConcurrentPointHistoryTable에 기록할 때마다 회원별 내역 목록(read model)에도 함께 추가합니다.
+ * selectAllByUserId는 전체 내역을 훑기 때문에 조회 비용이 전체 내역 수에 비례하지만,
+ * 회원별 목록에서는 해당 회원의 내역 수에 비례하는 비용으로 id 내림차순 목록을 정렬 없이 반환합니다.
+ * 기본 PointHistoryTable로 등록되므로, 여러 스레드가 동시에 기록해도 id가 중복되거나 내역이 유실되지 않습니다.
+ * 빈으로 등록될 때는 인자가 없는 생성자를 사용하므로, 기록할 때마다 PointHistoryTable과 같은 임의 지연이 있습니다.
+ */
+@Primary
+@Component
+public class IndexedPointHistoryTable extends ConcurrentPointHistoryTable {
+    private final Map<Long, UserPointHistories> index = new ConcurrentHashMap<>();
+
+    public IndexedPointHistoryTable() {
+        super();
+    }
+
+    /**
+     * @param maxThrottleMillis 기록할 때마다 기다리는 임의 지연의 최대값이며, 0이면 기다리지 않습니다.
+     */
+    public IndexedPointHistoryTable(long maxThrottleMillis) {
+        super(maxThrottleMillis);
+    }
+
+    /**
+     * insert와 insertAll 모두 이 메서드로 칸에 기록하므로, 어느 쪽으로 기록해도 회원별 목록에 추가됩니다.
+     */
+    @Override
+    protected PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = super.append(userId, amount, type, updateMillis);
+        index.computeIfAbsent(userId, key -> new UserPointHistories()).append(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * 회원의 내역을 id 내림차순으로 반환합니다.
+     */
+    public List<PointHistory> selectAllByUserIdOrderByIdDesc(long userId) {
+        UserPointHistories userPointHistories = index.get(userId);
+        if (userPointHistories == null) {
+            return List.of();
+        }
+        return userPointHistories.descending(Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 회원의 내역 중 beforeId보다 작은 id의 내역을 id 내림차순으로 최대 limit건 반환합니다.
+     * 시작 위치를 이분 탐색으로 찾고 limit건만 복사하므로, 전체 목록을 만들지 않습니다.
+     */
+    public List<PointHistory> selectAllByUserIdOrderByIdDesc(long userId, long beforeId, int limit) {
+        UserPointHistories userPointHistories = index.get(userId);
+        if (userPointHistories == null) {
+            return List.of();
+        }
+        return userPointHistories.descending(beforeId, limit);
+    }
+
+    /**
+     * 한 회원의 내역을 id 오름차순으로 이어 붙이는 배열입니다.
+     * 뒤에서부터 읽으면 내림차순이 되므로 조회 시 정렬하지 않습니다.
+     */
+    private static final class UserPointHistories {
+        private PointHistory[] entries = new PointHistory[8];
+        private int size = 0;
+
+        synchronized void append(PointHistory pointHistory) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size << 1);
+            }
+            // id 발급과 목록 추가 사이에 다른 스레드가 끼어든 경우에만 끝에서 몇 칸 이동합니다.
+            int position = size;
+            while (position > 0 && entries[position - 1].id() > pointHistory.id()) {
+                entries[position] = entries[position - 1];
+                position--;
+            }
+            entries[position] = pointHistory;
+            size++;
+        }
+
+        synchronized List<PointHistory> descending(long beforeId, int limit) {
+            final int end = countLessThan(beforeId);
+            final int count = Math.min(end, limit);
+            PointHistory[] result = new PointHistory[count];
+            for (int index = 0; index < count; index++) {
+                result[index] = entries[end - 1 - index];
+            }
+            return Collections.unmodifiableList(Arrays.asList(result));
+        }
+
+        private int countLessThan(long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (entries[middle].id() < id) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 잔액을 메모리 매핑 파일(mmap)에 저장하는 UserPointStore입니다.
+ * 잔액이 힙 밖(페이지 캐시)에 있으므로 GC 대상이 아니며, 재시작하면 파일을 다시 매핑하기만 하면 되어 데이터를 다시 적재하지 않습니다.
+ * <p>
+ * 파일은 64바이트 헤더 뒤에 고정 크기(64바이트) slot이 capacity개 이어지는 구조이며,
+ * 회원 ID를 해시하여 slot 위치를 정하는 open addressing(linear probing) 방식으로 파일 자체가 인덱스 역할을 합니다.
+ * <pre>
+ * slot = [key][copy 0: point, updateMillis, sequence][copy 1: point, updateMillis, sequence][padding]
+ * </pre>
+ * 잔액을 저장할 때는 sequence가 작은(오래된) 사본에 point와 updateMillis를 쓰고 마지막에 sequence를 올립니다.
+ * 쓰는 도중에 프로세스가 종료되더라도 sequence가 큰 사본은 그대로 남아 있으므로, 다시 열면 마지막으로 저장이 끝난 잔액을 읽습니다.
+ * 파일에 쓴 내용은 프로세스가 비정상 종료되어도 OS가 디스크에 기록하지만, 전원 장애에 대비하려면 force()를 호출해야 합니다.
+ * <p>
+ * 빈 slot을 0으로 표시하기 위해 key에는 (id ^ Long.MIN_VALUE)를 저장하므로 Long.MIN_VALUE는 회원 ID로 사용할 수 없습니다.
+ */
+public class MappedUserPointStore implements UserPointStore, AutoCloseable {
+    static final int SLOT_SIZE = 64;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    // slot 위치를 정하는 해시가 바뀌면 기존 파일의 slot을 찾지 못하므로, 형식을 구분하도록 값을 바꿉니다.
+    private static final long MAGIC = 0x5553_4552_504F_4932L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long EMPTY_KEY = 0L;
+    private static final int STRIPE_COUNT = 64;
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int KEY = 0;
+    private static final int[] COPIES = {8, 32};
+    private static final int POINT = 0;
+    private static final int UPDATE_MILLIS = 8;
+    private static final int SEQUENCE = 16;
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final long capacity;
+    private final StampedLock[] stripes = new StampedLock[STRIPE_COUNT];
+
+    /**
+     * 파일이 없으면 capacity개의 slot으로 새로 만들고, 파일이 있으면 파일에 기록된 capacity를 그대로 사용합니다.
+     *
+     * @param capacity 저장할 수 있는 최대 회원 수보다 넉넉하게(약 1.5배 이상) 지정하며, 2의 거듭제곱으로 올림합니다.
+     */
+    public MappedUserPointStore(Path path, long capacity) {
+        if (capacity < 1 || capacity > (1L << 40)) {
+            throw new IllegalArgumentException("slot 개수는 1 이상 2^40 이하여야 합니다. capacity = " + capacity);
+        }
+        final boolean exists;
+        try {
+            exists = Files.exists(path) && Files.size(path) > 0;
+            if (!exists && path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.capacity = exists ? readCapacity(channel, path) : roundUpToPowerOfTwo(capacity);
+            // 파일보다 크게 매핑하면 파일이 그 크기만큼 늘어나며, 늘어난 영역은 0(빈 slot)으로 채워집니다.
+            this.chunks = map(channel, SLOT_SIZE * (this.capacity + 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 파일을 열 수 없습니다. path = " + path, e);
+        }
+        if (!exists) {
+            LONG.set(chunks[0], HEADER_CAPACITY, this.capacity);
+            LONG.setRelease(chunks[0], HEADER_MAGIC, MAGIC);
+            chunks[0].force(0, HEADER_SIZE);
+        }
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            stripes[index] = new StampedLock();
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        validateId(id);
+        final StampedLock lock = stripeFor(id);
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = read(id);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                userPoint = read(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        validateId(id);
+        final long updateMillis = System.currentTimeMillis();
+        final StampedLock lock = stripeFor(id);
+        final long stamp = lock.writeLock();
+        try {
+            write(findOrClaim(id), amount, updateMillis);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    /**
+     * stripe의 쓰기 잠금 안에서 비교하고 저장하므로, 같은 회원의 insertOrUpdate와도 원자적으로 실행됩니다.
+     */
+    @Override
+    public UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint) {
+        validateId(id);
+        final long updateMillis = System.currentTimeMillis();
+        final StampedLock lock = stripeFor(id);
+        final long stamp = lock.writeLock();
+        try {
+            if (read(id).point() != expectedPoint) {
+                return null;
+            }
+            write(findOrClaim(id), newPoint, updateMillis);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, newPoint, updateMillis);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * 페이지 캐시에 있는 내용을 디스크에 기록합니다.
+     */
+    public void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UserPoint read(long id) {
+        final long slot = find(id);
+        if (slot < 0) {
+            return UserPoint.empty(id);
+        }
+        final long sequence0 = getLong(slot + COPIES[0] + SEQUENCE);
+        final long sequence1 = getLong(slot + COPIES[1] + SEQUENCE);
+        if (sequence0 == 0 && sequence1 == 0) {
+            // slot만 차지하고 첫 저장이 끝나기 전에 종료된 경우입니다.
+            return UserPoint.empty(id);
+        }
+        final long copy = slot + (sequence0 > sequence1 ? COPIES[0] : COPIES[1]);
+        return new UserPoint(id, getLong(copy + POINT), getLong(copy + UPDATE_MILLIS));
+    }
+
+    /**
+     * 마지막으로 저장이 끝난 사본은 건드리지 않고, 오래된 사본에 쓴 뒤 sequence를 가장 마지막에 올립니다.
+     */
+    private void write(long slot, long point, long updateMillis) {
+        final long sequence0 = getLong(slot + COPIES[0] + SEQUENCE);
+        final long sequence1 = getLong(slot + COPIES[1] + SEQUENCE);
+        final long copy = slot + (sequence0 <= sequence1 ? COPIES[0] : COPIES[1]);
+        putLong(copy + POINT, point);
+        putLong(copy + UPDATE_MILLIS, updateMillis);
+        putLongRelease(copy + SEQUENCE, Math.max(sequence0, sequence1) + 1);
+    }
+
+    private long find(long id) {
+        final long key = id ^ Long.MIN_VALUE;
+        long index = probeHash(id) & (capacity - 1);
+        for (long probe = 0; probe < capacity; probe++) {
+            final long slot = slotOffset(index);
+            final long current = getLongAcquire(slot + KEY);
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY_KEY) {
+                return -1;
+            }
+            index = (index + 1) & (capacity - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * 서로 다른 stripe의 회원이 같은 빈 slot을 동시에 차지하지 않도록 key를 CAS로 기록합니다.
+     */
+    private long findOrClaim(long id) {
+        final long key = id ^ Long.MIN_VALUE;
+        long index = probeHash(id) & (capacity - 1);
+        for (long probe = 0; probe < capacity; probe++) {
+            final long slot = slotOffset(index);
+            long current = getLongAcquire(slot + KEY);
+            if (current == EMPTY_KEY && compareAndSetLong(slot + KEY, EMPTY_KEY, key)) {
+                return slot;
+            }
+            current = getLongAcquire(slot + KEY);
+            if (current == key) {
+                return slot;
+            }
+            index = (index + 1) & (capacity - 1);
+        }
+        throw new IllegalStateException("잔액 파일의 slot이 모두 사용되었습니다. capacity = " + capacity);
+    }
+
+    /**
+     * 곱셈 결과의 하위 비트는 id의 하위 비트로만 정해지므로, 상위 비트까지 섞이도록 오른쪽으로 이동한 값을 사용합니다.
+     * capacity는 최대 2^40이므로 이동한 뒤에도 slot 위치를 정하는 데 필요한 비트가 남습니다.
+     */
+    private static long probeHash(long id) {
+        return (id * GOLDEN_RATIO) >>> 16;
+    }
+
+    private StampedLock stripeFor(long id) {
+        return stripes[(int) ((id * GOLDEN_RATIO) >>> (Long.SIZE - Integer.numberOfTrailingZeros(STRIPE_COUNT)))];
+    }
+
+    /**
+     * 헤더가 slot 하나 크기를 차지하므로 slot은 SLOT_SIZE부터 시작하며, slot이 chunk 경계를 넘지 않습니다.
+     */
+    private static long slotOffset(long index) {
+        return SLOT_SIZE * (index + 1);
+    }
+
+    private long getLong(long offset) {
+        return (long) LONG.get(chunks[(int) (offset >>> CHUNK_SHIFT)], (int) (offset & CHUNK_MASK));
+    }
+
+    private long getLongAcquire(long offset) {
+        return (long) LONG.getAcquire(chunks[(int) (offset >>> CHUNK_SHIFT)], (int) (offset & CHUNK_MASK));
+    }
+
+    private void putLong(long offset, long value) {
+        LONG.set(chunks[(int) (offset >>> CHUNK_SHIFT)], (int) (offset & CHUNK_MASK), value);
+    }
+
+    private void putLongRelease(long offset, long value) {
+        LONG.setRelease(chunks[(int) (offset >>> CHUNK_SHIFT)], (int) (offset & CHUNK_MASK), value);
+    }
+
+    private boolean compareAndSetLong(long offset, long expected, long value) {
+        return LONG.compareAndSet(chunks[(int) (offset >>> CHUNK_SHIFT)], (int) (offset & CHUNK_MASK), expected,
+                value);
+    }
+
+    private static void validateId(long id) {
+        if (id == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("사용할 수 없는 회원 ID입니다. id = " + id);
+        }
+    }
+
+    private static long roundUpToPowerOfTwo(long value) {
+        return value == 1 ? 1 : Long.highestOneBit(value - 1) << 1;
+    }
+
+    private static long readCapacity(FileChannel channel, Path path) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if ((long) LONG.get(header, HEADER_MAGIC) != MAGIC) {
+            throw new IllegalStateException("잔액 파일 형식이 아닙니다. path = " + path);
+        }
+        return (long) LONG.get(header, HEADER_CAPACITY);
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, long size) throws IOException {
+        final int chunkCount = (int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+        for (int index = 0; index < chunkCount; index++) {
+            final long position = (long) index << CHUNK_SHIFT;
+            chunks[index] = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                    Math.min(1L << CHUNK_SHIFT, size - position));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,238 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 포인트 로그를 주기적으로 접어(fold) 회원별 잔액의 snapshot 파일을 만들고, 시작할 때 snapshot과 로그의 꼬리 부분으로 잔액을 복구합니다.
+ * <p>
+ * snapshot은 직전 snapshot에 rolling이 끝난 segment의 내역만 더해서 만듭니다.
+ * rolling이 끝난 segment는 더 이상 바뀌지 않으므로 잔액 저장소나 로그의 기록을 멈추지 않고 만들 수 있으며,
+ * snapshot에 포함된 마지막 내역의 다음 순번을 watermark로 함께 기록합니다.
+ * <pre>
+ * snapshot = [magic][watermark][count][userId, point] * count[CRC32C]
+ * </pre>
+ * snapshot은 임시 파일에 기록하고 fsync한 뒤 이름을 바꾸므로, 만드는 도중에 종료되어도 직전 snapshot이 그대로 남습니다.
+ * 새로운 snapshot이 만들어지면 이전 snapshot과 watermark 이전의 segment를 삭제합니다.
+ * <p>
+ * 직전 snapshot의 잔액은 메모리에 남겨 두므로, 주기마다 snapshot 파일을 다시 읽지 않고 새로 rolling이 끝난 segment의 내역만 더합니다.
+ * <p>
+ * 시작할 때는 가장 최근 snapshot을 읽고 순번이 watermark 이상인 내역만 다시 적용하므로,
+ * 복구 시간은 전체 내역 수가 아니라 회원 수와 마지막 snapshot 이후의 내역 수에 비례합니다.
+ * 복구한 잔액은 UserPointStore.restoreAll로 한 번에 저장하므로, 저장할 때마다 지연이 있는 저장소에서도 회원마다 기다리지 않습니다.
+ */
+@Slf4j
+public class PointBalanceSnapshotter implements AutoCloseable {
+    private static final long MAGIC = 0x504F_494E_5453_4E50L;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final FilePointTransactionLog pointTransactionLog;
+    private final Path directory;
+    private final Thread scheduler;
+    private volatile boolean closed = false;
+    // snapshot()만 읽고 바꾸며, 아직 읽지 않았거나 내역을 더하는 도중에 실패하면 null입니다.
+    private Snapshot folded;
+
+    /**
+     * @param intervalMillis snapshot을 만드는 주기이며, 0 이하이면 주기적으로 만들지 않습니다.
+     */
+    public PointBalanceSnapshotter(FilePointTransactionLog pointTransactionLog, Path directory,
+            long intervalMillis) {
+        this.pointTransactionLog = pointTransactionLog;
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            deleteFiles(TEMPORARY_SUFFIX, Long.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot 디렉터리를 열 수 없습니다. directory = " + directory, e);
+        }
+        if (intervalMillis > 0) {
+            this.scheduler = new Thread(() -> snapshotPeriodically(intervalMillis), "point-snapshot");
+            this.scheduler.setDaemon(true);
+            this.scheduler.start();
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 가장 최근 snapshot을 읽고 watermark 이후의 내역을 적용하여 회원별 잔액을 계산한 뒤 저장소에 저장합니다.
+     * snapshot을 만드는 도중에 segment가 삭제되지 않도록 snapshot()과 동시에 실행하지 않습니다.
+     *
+     * @return 잔액을 복구한 회원 수
+     */
+    public synchronized int rebuildBalances(UserPointStore userPointStore) {
+        final Snapshot snapshot = loadLatest();
+        final Map<Long, Long> userIdToPoint = snapshot.userIdToPoint();
+        pointTransactionLog.replay(snapshot.watermark(), entry -> apply(userIdToPoint, entry));
+        userPointStore.restoreAll(userIdToPoint);
+        return userIdToPoint.size();
+    }
+
+    /**
+     * 직전 snapshot에 rolling이 끝난 segment의 내역을 더해 새로운 snapshot을 만듭니다.
+     * 처음 호출할 때만 snapshot 파일을 읽고, 이후에는 메모리에 남겨 둔 잔액에 새로 더할 내역만 더합니다.
+     * 새로 더할 내역이 없으면 만들지 않습니다.
+     *
+     * @return 가장 최근 snapshot의 watermark
+     */
+    public synchronized long snapshot() {
+        final Snapshot previous = folded != null ? folded : loadLatest();
+        final Map<Long, Long> userIdToPoint = previous.userIdToPoint();
+        folded = null;
+        final long watermark = pointTransactionLog.replaySealed(previous.watermark(),
+                entry -> apply(userIdToPoint, entry));
+        // 파일 기록에 실패하더라도 메모리의 잔액은 watermark까지 더한 상태이므로, 다음 주기에는 그 이후의 내역만 더합니다.
+        folded = new Snapshot(userIdToPoint, Math.max(watermark, previous.watermark()));
+        if (watermark <= previous.watermark()) {
+            return previous.watermark();
+        }
+        try {
+            write(userIdToPoint, watermark);
+            deleteFiles(SNAPSHOT_SUFFIX, watermark);
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot을 기록할 수 없습니다. directory = " + directory, e);
+        }
+        final int deletedSegmentCount = pointTransactionLog.deleteSegmentsBefore(watermark);
+        log.info("잔액 snapshot을 만들었습니다. watermark = {}, 회원 = {}명, 삭제한 segment = {}개", watermark,
+                userIdToPoint.size(), deletedSegmentCount);
+        return watermark;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.interrupt();
+            try {
+                scheduler.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void snapshotPeriodically(long intervalMillis) {
+        while (!closed) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                log.error("잔액 snapshot 생성 중 에러가 발생했습니다. directory = {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * snapshot이 없으면 빈 잔액과 watermark 0을 반환합니다.
+     * 가장 최근 snapshot이 손상되었으면 이미 삭제된 segment의 내역을 복구할 수 없으므로 예외를 발생시킵니다.
+     */
+    private Snapshot loadLatest() {
+        final Path latest;
+        try {
+            final List<Path> snapshots = files(SNAPSHOT_SUFFIX);
+            if (snapshots.isEmpty()) {
+                return new Snapshot(new HashMap<>(), 0L);
+            }
+            latest = snapshots.get(snapshots.size() - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot 목록을 읽을 수 없습니다. directory = " + directory, e);
+        }
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(latest)), new CRC32C());
+             DataInputStream input = new DataInputStream(checked)) {
+            if (input.readLong() != MAGIC) {
+                throw new IllegalStateException("snapshot 형식이 아닙니다. snapshot = " + latest);
+            }
+            final long watermark = input.readLong();
+            final long count = input.readLong();
+            final Map<Long, Long> userIdToPoint = new HashMap<>((int) Math.min(count * 4 / 3 + 1, 1 << 30));
+            for (long index = 0; index < count; index++) {
+                userIdToPoint.put(input.readLong(), input.readLong());
+            }
+            final int expected = (int) checked.getChecksum().getValue();
+            if (input.readInt() != expected) {
+                throw new IllegalStateException("snapshot이 손상되었습니다. snapshot = " + latest);
+            }
+            return new Snapshot(userIdToPoint, watermark);
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot을 읽을 수 없습니다. snapshot = " + latest, e);
+        }
+    }
+
+    private void write(Map<Long, Long> userIdToPoint, long watermark) throws IOException {
+        final Path target = directory.resolve(String.format("%020d%s", watermark, SNAPSHOT_SUFFIX));
+        final Path temporary = directory.resolve(target.getFileName() + TEMPORARY_SUFFIX);
+        final CheckedOutputStream checked = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary)), new CRC32C());
+        try (DataOutputStream output = new DataOutputStream(checked)) {
+            output.writeLong(MAGIC);
+            output.writeLong(watermark);
+            output.writeLong(userIdToPoint.size());
+            for (Map.Entry<Long, Long> entry : userIdToPoint.entrySet()) {
+                output.writeLong(entry.getKey());
+                output.writeLong(entry.getValue());
+            }
+            output.writeInt((int) checked.getChecksum().getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void apply(Map<Long, Long> userIdToPoint, PointTransactionLog.Entry entry) {
+        userIdToPoint.merge(entry.userId(),
+                entry.type() == TransactionType.CHARGE ? entry.amount() : -entry.amount(), Long::sum);
+    }
+
+    /**
+     * 이름이 suffix로 끝나고 watermark가 before보다 작은 파일을 삭제합니다.
+     */
+    private void deleteFiles(String suffix, long before) throws IOException {
+        for (Path file : files(suffix)) {
+            final String fileName = file.getFileName().toString();
+            if (Long.parseLong(fileName.substring(0, fileName.indexOf('.'))) < before) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private record Snapshot(
+            Map<Long, Long> userIdToPoint,
+            long watermark
+    ) {
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 충전/사용 내역을 잔액을 변경하기 전에 먼저 기록하는 로그(write-ahead log)입니다.
+ * 잔액을 변경하는 서비스는 검증을 마친 뒤 append()가 반환되면 잔액을 저장하므로, 로그에 기록되지 않은 잔액 변경은 없습니다.
+ * 로그에 기록한 뒤 잔액 저장에 실패하면 compensate()로 반대 방향의 내역을 기록하여, 실패로 응답한 변경이 다시 시작할 때 복구되지 않도록 합니다.
+ * PointTransactionLog의 구현체는 아래와 같습니다.
+ * - FilePointTransactionLog : segment 파일에 이어서 기록하고, 재시작 시 로그를 다시 읽어 잔액을 복구합니다.
+ * - NO_OP : 아무것도 기록하지 않습니다.(기본값)
+ */
+public interface PointTransactionLog {
+    PointTransactionLog NO_OP = new PointTransactionLog() {
+        @Override
+        public void append(Entry entry) {
+        }
+
+        @Override
+        public void appendAll(List<Entry> entries) {
+        }
+    };
+
+    void append(Entry entry);
+
+    /**
+     * 여러 건을 한 번에 기록하며, 기록이 끝날 때까지 한 번만 대기합니다.
+     */
+    void appendAll(List<Entry> entries);
+
+    /**
+     * 이미 기록한 내역을 상쇄하는 반대 방향의 내역을 기록합니다.
+     * 상쇄하는 내역마저 기록하지 못하면 로그와 잔액이 어긋나므로, 그 예외를 cause에 담아 함께 전달합니다.
+     */
+    default void compensate(List<Entry> entries, RuntimeException cause) {
+        try {
+            appendAll(entries.stream().map(Entry::reversed).toList());
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    record Entry(
+            long userId,
+            TransactionType type,
+            long amount,
+            long updateMillis
+    ) {
+
+        /**
+         * 다시 적용하면 원래 내역과 합쳐져 잔액이 바뀌지 않는 반대 방향의 내역입니다.
+         */
+        public Entry reversed() {
+            return new Entry(userId, type == TransactionType.CHARGE ? TransactionType.USE : TransactionType.CHARGE,
+                    amount, updateMillis);
+        }
+    }
+}
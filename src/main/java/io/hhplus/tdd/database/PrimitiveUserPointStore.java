@@ -0,0 +1,282 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 회원 ID를 키로 하는 open addressing(linear probing) 해시 테이블에 잔액을 저장합니다.
+ * UserPointTable의 HashMap&lt;Long, UserPoint&gt;는 회원마다 Long 키, Node, UserPoint 객체를 만들지만,
+ * 이 저장소는 회원 한 명을 long 배열의 연속된 3칸(id, point, updateMillis)에 저장하므로 키 boxing과 회원별 객체가 없습니다.
+ * - pointOf / updateMillisOf / put은 배열만 읽고 쓰므로 메모리를 할당하지 않습니다.
+ * - selectById / insertOrUpdate는 UserPointStore의 반환 타입을 맞추기 위해 반환할 UserPoint 하나만 생성합니다.
+ * - 테이블을 segment로 나누고 segment마다 StampedLock을 두어, 조회는 잠금 없이(optimistic read) 수행하고 쓰기는 해당 segment만 잠급니다.
+ * Long.MIN_VALUE는 빈 칸을 나타내므로 회원 ID로 사용할 수 없습니다.
+ */
+public class PrimitiveUserPointStore implements UserPointStore {
+    static final long EMPTY_KEY = Long.MIN_VALUE;
+    static final int MAX_SEGMENT_COUNT = 1 << 16;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int SLOT_WIDTH = 3;
+    private static final int POINT_OFFSET = 1;
+    private static final int UPDATE_MILLIS_OFFSET = 2;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 29;
+    private static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * @param segmentCount 동시에 쓸 수 있는 segment 개수이며, 2의 거듭제곱으로 올림합니다.
+     * @param expectedSize 예상 회원 수이며, 이만큼은 배열을 늘리지 않고 저장할 수 있도록 미리 할당합니다.
+     */
+    public PrimitiveUserPointStore(int segmentCount, int expectedSize) {
+        if (segmentCount < 1 || segmentCount > MAX_SEGMENT_COUNT) {
+            throw new IllegalArgumentException(
+                    "segment 개수는 1 이상 " + MAX_SEGMENT_COUNT + " 이하여야 합니다. segmentCount = " + segmentCount);
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("예상 회원 수는 0 이상이어야 합니다. expectedSize = " + expectedSize);
+        }
+        final int size = segmentCount == 1 ? 1 : Integer.highestOneBit(segmentCount - 1) << 1;
+        this.segments = new Segment[size];
+        for (int index = 0; index < size; index++) {
+            segments[index] = new Segment(expectedSize / size + 1);
+        }
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(size);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        validateId(id);
+        return segmentFor(id).select(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        final long updateMillis = System.currentTimeMillis();
+        put(id, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    /**
+     * 저장된 잔액이 없으면 0을 반환합니다.
+     */
+    public long pointOf(long id) {
+        validateId(id);
+        return segmentFor(id).read(id, POINT_OFFSET);
+    }
+
+    /**
+     * 저장된 잔액이 없으면 0을 반환합니다.
+     */
+    public long updateMillisOf(long id) {
+        validateId(id);
+        return segmentFor(id).read(id, UPDATE_MILLIS_OFFSET);
+    }
+
+    public void put(long id, long point, long updateMillis) {
+        validateId(id);
+        segmentFor(id).put(id, point, updateMillis);
+    }
+
+    /**
+     * segment의 쓰기 잠금 안에서 비교하고 저장하므로, 같은 회원의 put / insertOrUpdate와도 원자적으로 실행됩니다.
+     */
+    @Override
+    public UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint) {
+        validateId(id);
+        final long updateMillis = System.currentTimeMillis();
+        if (!segmentFor(id).compareAndPut(id, expectedPoint, newPoint, updateMillis)) {
+            return null;
+        }
+        return new UserPoint(id, newPoint, updateMillis);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long id) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        return segments[(int) ((id * GOLDEN_RATIO) >>> segmentShift)];
+    }
+
+    private static void validateId(long id) {
+        if (id == EMPTY_KEY) {
+            throw new IllegalArgumentException("사용할 수 없는 회원 ID입니다. id = " + id);
+        }
+    }
+
+    /**
+     * segment는 상위 비트로 고르므로, segment 안의 위치는 그보다 아래의 비트로 정해 서로 겹치지 않도록 했습니다.
+     */
+    private static int probeHash(long id) {
+        return (int) ((id * GOLDEN_RATIO) >>> 16);
+    }
+
+    /**
+     * id가 있으면 해당 칸의 시작 위치를, 없으면 id를 넣을 빈 칸의 시작 위치를 비트 반전(~)하여 반환합니다.
+     */
+    private static int indexOf(long[] slots, long id) {
+        final int mask = slots.length / SLOT_WIDTH - 1;
+        int slot = probeHash(id) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            final int index = slot * SLOT_WIDTH;
+            final long key = slots[index];
+            if (key == id) {
+                return index;
+            }
+            if (key == EMPTY_KEY) {
+                return ~index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private static long[] newSlots(int capacity) {
+        long[] slots = new long[capacity * SLOT_WIDTH];
+        for (int index = 0; index < slots.length; index += SLOT_WIDTH) {
+            slots[index] = EMPTY_KEY;
+        }
+        return slots;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // 사용률(load factor)을 0.75 이하로 유지하여 probing 길이가 짧게 유지되도록 합니다.
+        final long required = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("segment 하나에 저장할 수 있는 회원 수를 초과했습니다. expectedSize = " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private long[] slots;
+        private int size = 0;
+
+        Segment(int expectedSize) {
+            this.slots = newSlots(capacityFor(expectedSize));
+        }
+
+        /**
+         * 잠금 없이 읽은 뒤 그 사이에 쓰기가 없었는지 확인하고, 쓰기가 있었던 경우에만 읽기 잠금을 잡고 다시 읽습니다.
+         */
+        long read(long id, int offset) {
+            long stamp = lock.tryOptimisticRead();
+            long[] current = slots;
+            int index = indexOf(current, id);
+            long value = index < 0 ? 0L : current[index + offset];
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = slots;
+                    index = indexOf(current, id);
+                    value = index < 0 ? 0L : current[index + offset];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+
+        UserPoint select(long id) {
+            long stamp = lock.tryOptimisticRead();
+            long[] current = slots;
+            int index = indexOf(current, id);
+            long point = index < 0 ? 0L : current[index + POINT_OFFSET];
+            long updateMillis = index < 0 ? 0L : current[index + UPDATE_MILLIS_OFFSET];
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = slots;
+                    index = indexOf(current, id);
+                    point = index < 0 ? 0L : current[index + POINT_OFFSET];
+                    updateMillis = index < 0 ? 0L : current[index + UPDATE_MILLIS_OFFSET];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return index < 0 ? UserPoint.empty(id) : new UserPoint(id, point, updateMillis);
+        }
+
+        void put(long id, long point, long updateMillis) {
+            final long stamp = lock.writeLock();
+            try {
+                write(indexOf(slots, id), id, point, updateMillis);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean compareAndPut(long id, long expectedPoint, long point, long updateMillis) {
+            final long stamp = lock.writeLock();
+            try {
+                final int index = indexOf(slots, id);
+                final long current = index < 0 ? 0L : slots[index + POINT_OFFSET];
+                if (current != expectedPoint) {
+                    return false;
+                }
+                write(index, id, point, updateMillis);
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            final long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * 쓰기 잠금을 잡은 상태에서 호출하며, index는 indexOf의 결과입니다.
+         */
+        private void write(int index, long id, long point, long updateMillis) {
+            if (index < 0) {
+                if ((size + 1) * 4L > (slots.length / SLOT_WIDTH) * 3L) {
+                    resize();
+                    index = indexOf(slots, id);
+                }
+                index = ~index;
+                slots[index] = id;
+                size++;
+            }
+            slots[index + POINT_OFFSET] = point;
+            slots[index + UPDATE_MILLIS_OFFSET] = updateMillis;
+        }
+
+        /**
+         * 새 배열을 모두 채운 뒤 교체하므로, 잠금 없이 읽던 스레드는 이전 배열을 끝까지 읽고 validate에서 실패합니다.
+         */
+        private void resize() {
+            final int capacity = slots.length / SLOT_WIDTH;
+            if (capacity >= MAX_CAPACITY) {
+                throw new IllegalStateException("segment 하나에 저장할 수 있는 회원 수를 초과했습니다. size = " + size);
+            }
+            long[] resized = newSlots(capacity << 1);
+            for (int index = 0; index < slots.length; index += SLOT_WIDTH) {
+                final long key = slots[index];
+                if (key != EMPTY_KEY) {
+                    final int target = ~indexOf(resized, key);
+                    System.arraycopy(slots, index, resized, target, SLOT_WIDTH);
+                }
+            }
+            slots = resized;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.Map;
+
+/**
+ * 회원의 포인트 잔액을 저장하는 저장소입니다.
+ * 잔액을 읽고 쓰는 서비스는 UserPointTable 대신 UserPointStore를 사용하여, 저장 방식을 설정으로 바꿀 수 있도록 했습니다.
+ * UserPointStore의 구현체는 아래와 같습니다.
+ * - UserPointTableStore : UserPointTable(잔액 캐시를 사용하면 CachedUserPointTable)에 위임합니다.
+ * - PrimitiveUserPointStore : long 배열 기반의 open addressing 해시 테이블에 저장합니다.
+ * - MappedUserPointStore : 메모리 매핑 파일에 저장하여, 재시작해도 잔액이 유지됩니다.
+ */
+public interface UserPointStore {
+    /**
+     * 저장된 잔액이 없으면 0 포인트를 반환합니다.
+     */
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+
+    /**
+     * 저장된 잔액이 expectedPoint와 같을 때만 newPoint로 저장합니다(compare-and-set).
+     * 잔액이 없으면 0 포인트가 저장된 것으로 봅니다.
+     * 잔액을 바꾸는 연산은 현재 잔액에만 의존하므로, 잔액이 그 사이에 바뀌었다가 같은 값으로 돌아왔더라도(ABA)
+     * 저장하는 결과는 순서대로 실행한 결과와 같습니다. 따라서 updateMillis 같은 별도의 version은 비교하지 않습니다.
+     *
+     * @return 저장된 잔액이며, 잔액이 expectedPoint와 달라 저장하지 않았으면 null
+     */
+    UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint);
+
+    /**
+     * 시작할 때 복구한 회원별 잔액을 한 번에 저장합니다.
+     * 기본 구현은 insertOrUpdate를 회원마다 호출하며, 저장할 때마다 지연이 있는 구현체는 지연 없이 저장하도록 재정의합니다.
+     */
+    default void restoreAll(Map<Long, Long> userIdToPoint) {
+        userIdToPoint.forEach(this::insertOrUpdate);
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable에 그대로 위임하는 UserPointStore입니다.
+ * UserPointTable은 조건부 저장을 제공하지 않으므로, compareAndUpdate는 회원 ID로 고른 stripe 잠금 안에서 조회와 저장을 실행합니다.
+ * 이 잠금은 compareAndUpdate끼리만 직렬화하므로, 같은 회원의 잔액을 insertOrUpdate로 동시에 저장하는 경우에는 원자성을 보장하지 않습니다.
+ * <p>
+ * UserPointTable.insertOrUpdate는 저장할 때마다 최대 300ms를 기다리므로, 시작할 때 복구한 잔액을 회원마다 저장하면
+ * 시작 시간이 회원 수에 비례하여 늘어납니다. 그래서 restoreAll은 복구한 잔액을 UserPointTable에 저장하지 않고 따로 보관하며,
+ * 회원의 잔액이 처음 저장되기 전까지는 보관한 잔액을 반환합니다. 처음 저장한 뒤에는 보관한 잔액을 지우고 UserPointTable을 사용합니다.
+ */
+public class UserPointTableStore implements UserPointStore {
+    private static final int STRIPE_COUNT = 64;
+
+    private final UserPointTable userPointTable;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final Map<Long, UserPoint> restored = new ConcurrentHashMap<>();
+
+    public UserPointTableStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            stripes[index] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        if (!restored.isEmpty()) {
+            UserPoint restoredUserPoint = restored.get(id);
+            if (restoredUserPoint != null) {
+                return restoredUserPoint;
+            }
+        }
+        return userPointTable.selectById(id);
+    }
+
+    /**
+     * UserPointTable에 저장한 뒤에 보관한 잔액을 지우므로, 그 사이에 조회하더라도 0 포인트가 아닌 직전 잔액을 반환합니다.
+     */
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        if (!restored.isEmpty()) {
+            restored.remove(id);
+        }
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint) {
+        final ReentrantLock lock = stripes[(int) (id & (STRIPE_COUNT - 1))];
+        lock.lock();
+        try {
+            if (selectById(id).point() != expectedPoint) {
+                return null;
+            }
+            return insertOrUpdate(id, newPoint);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void restoreAll(Map<Long, Long> userIdToPoint) {
+        final long updateMillis = System.currentTimeMillis();
+        userIdToPoint.forEach((id, point) -> restored.put(id, new UserPoint(id, point, updateMillis)));
+    }
+}
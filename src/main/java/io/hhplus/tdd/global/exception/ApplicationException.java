@@ -4,4 +4,11 @@ public class ApplicationException extends RuntimeException {
 	public ApplicationException(String message) {
 		super(message);
 	}
+
+	/**
+	 * writableStackTrace가 false이면 stack trace를 기록하지 않으므로, 자주 발생하는 예상된 예외를 미리 만들어 재사용할 수 있습니다.
+	 */
+	protected ApplicationException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
 }
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.global.exception;
+
+/**
+ * 요청은 올바르지만 현재 설정으로는 해당 기능을 제공하지 않는다는 예외입니다.
+ * 요청을 고쳐 다시 보내도 성공하지 않으므로, 잘못된 요청(400)과 구분하여 501(Not Implemented)로 응답합니다.
+ */
+public class NotImplementedException extends ApplicationException {
+	public NotImplementedException(String message) {
+		super(message);
+	}
+}
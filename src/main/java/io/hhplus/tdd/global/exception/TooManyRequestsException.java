@@ -0,0 +1,18 @@
+package io.hhplus.tdd.global.exception;
+
+/**
+ * 요청이 몰려 지금은 처리할 수 없으니 retryAfterSeconds초 뒤에 다시 요청해 달라는 예외입니다.
+ * 잘못된 요청(400)이나 서버 에러(500)와 구분하여 429(Too Many Requests)와 Retry-After 헤더로 응답합니다.
+ */
+public class TooManyRequestsException extends ApplicationException {
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = Math.max(1L, retryAfterSeconds);
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
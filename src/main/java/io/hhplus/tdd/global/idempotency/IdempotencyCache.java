@@ -0,0 +1,106 @@
+package io.hhplus.tdd.global.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+
+/**
+ * Idempotency-Key별로 처리 결과를 보관하여, 같은 키로 다시 요청하면 다시 처리하지 않고 보관된 결과를 반환합니다.
+ * 잠금 대기 시간 초과 등으로 응답을 받지 못한 클라이언트가 재시도하더라도 포인트가 두 번 충전/사용되지 않으며,
+ * 재시도한 요청은 잠금을 획득하거나 잔액을 조회/저장하지 않고 바로 응답받습니다.
+ * <p>
+ * - 결과는 크기가 제한된 Caffeine 캐시에 저장 후 expireAfterWrite 동안 보관하므로, 키가 계속 쌓이지 않습니다.
+ * - 같은 키의 요청이 처리 중일 때 들어온 요청은 새로 처리하지 않고 처리 중인 요청의 결과를 기다립니다.
+ * - 처리에 실패하면 결과를 보관하지 않으므로, 같은 키로 다시 요청하면 다시 처리합니다.
+ * - 같은 키로 내용이 다른 요청을 보내면 실수로 키를 재사용한 것으로 보고 처리하지 않습니다.
+ */
+public class IdempotencyCache {
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final Cache<Key, Entry> cache;
+	private final LongAdder replayCount = new LongAdder();
+
+	public IdempotencyCache(Duration expireAfterWrite, long maximumSize) {
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(expireAfterWrite)
+			.maximumSize(maximumSize)
+			.build();
+	}
+
+	/**
+	 * @param key 요청 종류와 회원 ID로 범위를 나눈 Idempotency-Key
+	 * @param request 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 내용이며, equals로 비교합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(Key key, Object request, Supplier<T> operation) {
+		validate(key.idempotencyKey());
+		final Entry created = new Entry(request, new CompletableFuture<>());
+		final Entry existing = cache.asMap().putIfAbsent(key, created);
+		if (existing != null) {
+			if (!existing.request().equals(request)) {
+				throw new ApplicationException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+			}
+			replayCount.increment();
+			return (T)await(existing.result());
+		}
+		try {
+			final T result = operation.get();
+			created.result().complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			// 기다리던 요청이 계속 대기하지 않도록, Error가 발생한 경우에도 결과를 실패로 완료합니다.
+			cache.asMap().remove(key, created);
+			created.result().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 처리하지 않고 보관된 결과를 반환한 요청 수입니다.
+	 */
+	public long replayCount() {
+		return replayCount.sum();
+	}
+
+	private static void validate(String idempotencyKey) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new ApplicationException("Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 클라이언트가 만든 키가 다른 API나 다른 회원의 키와 겹치지 않도록 요청 종류와 회원 ID를 함께 사용합니다.
+	 */
+	public record Key(
+		String operation,
+		long userId,
+		String idempotencyKey
+	) {
+	}
+
+	private record Entry(
+		Object request,
+		CompletableFuture<Object> result
+	) {
+	}
+}
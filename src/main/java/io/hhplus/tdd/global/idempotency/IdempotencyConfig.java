@@ -0,0 +1,16 @@
+package io.hhplus.tdd.global.idempotency;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+	@Bean
+	public IdempotencyCache idempotencyCache(IdempotencyProperties idempotencyProperties) {
+		return new IdempotencyCache(idempotencyProperties.resolveExpireAfter(),
+			idempotencyProperties.resolveMaximumSize());
+	}
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.global.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Idempotency-Key 설정입니다.
+ * - expireAfterSeconds : 처리 결과를 보관하는 시간이며, 0 이하이면 1시간을 사용합니다.
+ * - maximumSize : 보관할 최대 키 개수이며, 0 이하이면 100,000개를 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+	long expireAfterSeconds,
+	long maximumSize
+) {
+	private static final long DEFAULT_EXPIRE_AFTER_SECONDS = 3_600L;
+	private static final long DEFAULT_MAXIMUM_SIZE = 100_000L;
+
+	public Duration resolveExpireAfter() {
+		return Duration.ofSeconds(expireAfterSeconds > 0 ? expireAfterSeconds : DEFAULT_EXPIRE_AFTER_SECONDS);
+	}
+
+	public long resolveMaximumSize() {
+		return maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+	}
+}
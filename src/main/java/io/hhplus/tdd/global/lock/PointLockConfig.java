@@ -0,0 +1,22 @@
+package io.hhplus.tdd.global.lock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointLockProperties.class)
+public class PointLockConfig {
+
+	@Bean
+	public StripedLockPool stripedLockPool(PointLockProperties pointLockProperties) {
+		return new StripedLockPool(pointLockProperties.resolveStripeCount());
+	}
+
+	@Bean
+	public UserLockManager userLockManager(StripedLockPool stripedLockPool, PointLockProperties pointLockProperties) {
+		return new UserLockManager(stripedLockPool, pointLockProperties.resolveMaxQueuedPerUser(),
+			pointLockProperties.resolveMinTimeoutNanos(), pointLockProperties.resolveMaxTimeoutNanos(),
+			pointLockProperties.resolveTimeoutMultiplier());
+	}
+}
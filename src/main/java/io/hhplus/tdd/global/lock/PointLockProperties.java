@@ -0,0 +1,55 @@
+package io.hhplus.tdd.global.lock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 잠금 설정입니다.
+ * - stripes : 잠금(stripe) 개수
+ * - stripesPerCore : 0보다 크면 stripes 대신 (CPU 코어 수 * stripesPerCore)개의 잠금을 사용합니다.
+ * - maxQueuedPerUser : 회원마다 잠금을 기다릴 수 있는 최대 요청 수이며, 음수이면 제한하지 않습니다.
+ * - minTimeoutMillis, maxTimeoutMillis : 잠금을 기다리는 시간의 하한과 상한
+ * - timeoutMultiplier : 예상 대기 시간(임계 구역 실행 시간의 이동 평균 * 앞에서 기다리는 요청 수)에 곱하는 여유 배수
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record PointLockProperties(
+	int stripes,
+	int stripesPerCore,
+	Integer maxQueuedPerUser,
+	long minTimeoutMillis,
+	long maxTimeoutMillis,
+	int timeoutMultiplier
+) {
+	private static final int DEFAULT_STRIPES = 1024;
+	private static final int DEFAULT_MAX_QUEUED_PER_USER = 32;
+	private static final long DEFAULT_MIN_TIMEOUT_MILLIS = 50L;
+	private static final long DEFAULT_MAX_TIMEOUT_MILLIS = 10_000L;
+	private static final int DEFAULT_TIMEOUT_MULTIPLIER = 4;
+
+	public int resolveStripeCount() {
+		if (stripesPerCore > 0) {
+			return Runtime.getRuntime().availableProcessors() * stripesPerCore;
+		}
+		return stripes > 0 ? stripes : DEFAULT_STRIPES;
+	}
+
+	public int resolveMaxQueuedPerUser() {
+		if (maxQueuedPerUser == null) {
+			return DEFAULT_MAX_QUEUED_PER_USER;
+		}
+		return maxQueuedPerUser < 0 ? Integer.MAX_VALUE : maxQueuedPerUser;
+	}
+
+	public long resolveMinTimeoutNanos() {
+		return TimeUnit.MILLISECONDS.toNanos(minTimeoutMillis > 0 ? minTimeoutMillis : DEFAULT_MIN_TIMEOUT_MILLIS);
+	}
+
+	public long resolveMaxTimeoutNanos() {
+		return TimeUnit.MILLISECONDS.toNanos(maxTimeoutMillis > 0 ? maxTimeoutMillis : DEFAULT_MAX_TIMEOUT_MILLIS);
+	}
+
+	public int resolveTimeoutMultiplier() {
+		return timeoutMultiplier > 0 ? timeoutMultiplier : DEFAULT_TIMEOUT_MULTIPLIER;
+	}
+}
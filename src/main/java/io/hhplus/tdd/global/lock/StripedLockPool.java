@@ -0,0 +1,94 @@
+package io.hhplus.tdd.global.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 사용자 ID를 고정된 개수의 잠금(stripe) 중 하나에 대응시키는 잠금 풀입니다.
+ * 사용자마다 잠금을 생성하면 한 번이라도 요청한 사용자 수만큼 잠금이 쌓이고 줄어들지 않기 때문에,
+ * 잠금 개수를 stripe 개수로 고정하여 메모리 사용량이 사용자 수와 무관하도록 했습니다.
+ * 서로 다른 사용자가 같은 stripe를 공유할 수 있지만, 동일한 사용자는 항상 같은 잠금을 사용합니다.
+ * 잠겨 있는 stripe 수(held)와 잠금을 기다리는 스레드 수(waiting)를 지표로 제공합니다.
+ */
+public class StripedLockPool implements MeterBinder {
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	private final ReentrantLock[] locks;
+	private final int shift;
+
+	/**
+	 * @param stripeCount 잠금 개수이며, 2의 거듭제곱으로 올림합니다.
+	 */
+	public StripedLockPool(int stripeCount) {
+		if (stripeCount < 1) {
+			throw new IllegalArgumentException("stripe 개수는 1 이상이어야 합니다. stripeCount = " + stripeCount);
+		}
+		final int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+		this.locks = new ReentrantLock[size];
+		for (int index = 0; index < size; index++) {
+			// 먼저 요청한 사용자가 먼저 응답받을 수 있도록 공정성을 유지합니다.
+			locks[index] = new ReentrantLock(true);
+		}
+		this.shift = Long.SIZE - Integer.numberOfTrailingZeros(size);
+	}
+
+	public Lock get(long userId) {
+		return locks[stripeIndex(userId)];
+	}
+
+	Lock lockAt(int stripeIndex) {
+		return locks[stripeIndex];
+	}
+
+	public int stripeCount() {
+		return locks.length;
+	}
+
+	/**
+	 * 지금 잠겨 있는 stripe 수입니다. 잠금 상태를 읽기만 하므로 잠금 경합에 영향을 주지 않지만, 순간적인 근사값입니다.
+	 */
+	public int lockedCount() {
+		int lockedCount = 0;
+		for (ReentrantLock lock : locks) {
+			if (lock.isLocked()) {
+				lockedCount++;
+			}
+		}
+		return lockedCount;
+	}
+
+	/**
+	 * 잠금을 기다리고 있는 스레드 수의 근사값입니다.
+	 */
+	public int queuedThreadCount() {
+		int queuedThreadCount = 0;
+		for (ReentrantLock lock : locks) {
+			queuedThreadCount += lock.getQueueLength();
+		}
+		return queuedThreadCount;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("point.lock.held", this, StripedLockPool::lockedCount)
+			.description("잠겨 있는 stripe 수")
+			.register(registry);
+		Gauge.builder("point.lock.waiting", this, StripedLockPool::queuedThreadCount)
+			.description("잠금을 기다리고 있는 스레드 수")
+			.register(registry);
+	}
+
+	/**
+	 * 연속된 사용자 ID가 특정 stripe에 몰리지 않도록 피보나치 해싱으로 상위 비트를 사용합니다.
+	 */
+	int stripeIndex(long userId) {
+		if (locks.length == 1) {
+			return 0;
+		}
+		return (int)((userId * GOLDEN_RATIO) >>> shift);
+	}
+}
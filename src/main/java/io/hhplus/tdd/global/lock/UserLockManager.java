@@ -0,0 +1,198 @@
+package io.hhplus.tdd.global.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 사용자 단위의 임계 구역을 실행합니다.
+ * 포인트 충전, 사용 등 동일한 사용자의 포인트를 변경하는 모든 서비스는 이 클래스를 통해 잠금을 획득해야
+ * 서로 다른 기능 간에도 Lost Update가 발생하지 않습니다.
+ * synchronized 대신 ReentrantLock으로 대기하므로, 가상 스레드가 잠금을 기다리거나 임계 구역에서 I/O를 기다리는 동안
+ * carrier 스레드를 점유(pinning)하지 않습니다.
+ * <p>
+ * 한 회원에게 요청이 몰려도 그 회원의 잠금을 기다리는 요청이 요청 처리 스레드를 모두 차지하지 않도록, 아래 두 가지 기준으로 요청을 빠르게 거절합니다.
+ * - 입장 제한 : 회원마다 잠금을 보유하거나 기다리는 요청 수를 세어, 기다리는 요청이 maxQueuedPerUser개를 넘으면 잠금을 기다리지 않고 바로 거절합니다.
+ * - 적응형 대기 시간 : 회원마다 임계 구역 실행 시간의 이동 평균(EWMA)을 기록하여, (이동 평균 * 앞에서 기다리는 요청 수 * timeoutMultiplier)만큼만
+ * 잠금을 기다립니다. 대기 시간은 [minTimeout, maxTimeout] 범위로 제한하며, 아직 기록된 실행 시간이 없으면 maxTimeout만큼 기다립니다.
+ * 거절한 요청은 TooManyRequestsException으로 다시 요청할 시점(Retry-After)과 함께 429로 응답합니다.
+ * <p>
+ * 입장 제한과 이동 평균은 stripe가 아닌 회원 단위로 두므로, 같은 stripe를 공유하는 다른 회원에게 요청이 몰려도 입장을 거절당하지 않습니다.
+ * 회원별 상태는 그 회원의 요청이 잠금을 보유하거나 기다리는 동안에만 남기고 마지막 요청이 끝나면 지우므로,
+ * 상태의 개수는 동시에 처리 중인 요청 수를 넘지 않습니다. 요청이 몰리는 동안에는 상태가 유지되어 이동 평균이 이어집니다.
+ */
+public class UserLockManager implements MeterBinder {
+	private static final long DEFAULT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10L);
+	private static final int EWMA_SHIFT = 3;
+
+	private final StripedLockPool stripedLockPool;
+	private final int maxQueuedPerUser;
+	private final long minTimeoutNanos;
+	private final long maxTimeoutNanos;
+	private final int timeoutMultiplier;
+	private final ConcurrentMap<Long, Admission> admissions = new ConcurrentHashMap<>();
+	private final LongAdder rejectedCount = new LongAdder();
+
+	/**
+	 * 입장을 제한하지 않고, 잠금을 최대 10초 동안 기다립니다.
+	 */
+	public UserLockManager(StripedLockPool stripedLockPool) {
+		this(stripedLockPool, Integer.MAX_VALUE, DEFAULT_TIMEOUT_NANOS, DEFAULT_TIMEOUT_NANOS, 1);
+	}
+
+	/**
+	 * @param maxQueuedPerUser 회원마다 잠금을 기다릴 수 있는 최대 요청 수이며, 0이면 잠금을 보유한 요청이 있을 때 바로 거절합니다.
+	 * @param timeoutMultiplier 예상 대기 시간에 곱하는 여유 배수
+	 */
+	public UserLockManager(StripedLockPool stripedLockPool, int maxQueuedPerUser, long minTimeoutNanos,
+		long maxTimeoutNanos, int timeoutMultiplier) {
+		this.stripedLockPool = stripedLockPool;
+		this.maxQueuedPerUser = maxQueuedPerUser;
+		this.minTimeoutNanos = minTimeoutNanos;
+		this.maxTimeoutNanos = Math.max(minTimeoutNanos, maxTimeoutNanos);
+		this.timeoutMultiplier = timeoutMultiplier;
+	}
+
+	public <T> T executeWithLock(long userId, Supplier<T> criticalSection) {
+		final Lock lock = stripedLockPool.lockAt(stripedLockPool.stripeIndex(userId));
+		acquire(userId, lock);
+		final long lockedNanos = System.nanoTime();
+		try {
+			return criticalSection.get();
+		} finally {
+			release(userId, lock, lockedNanos);
+		}
+	}
+
+	/**
+	 * 두 사용자의 잠금을 모두 획득한 상태에서 임계 구역을 실행합니다.
+	 * 서로 다른 사용자가 같은 stripe를 공유할 수 있으므로 사용자 ID가 아닌 stripe 번호의 오름차순으로 잠금을 획득하며,
+	 * 모든 요청이 같은 순서로 잠금을 획득하므로 A -> B와 B -> A 요청이 동시에 들어와도 교착 상태에 빠지지 않습니다.
+	 * 두 사용자가 같은 stripe를 공유하면 잠금을 한 번만 획득합니다.
+	 */
+	public <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> criticalSection) {
+		final int firstIndex = stripedLockPool.stripeIndex(firstUserId);
+		final int secondIndex = stripedLockPool.stripeIndex(secondUserId);
+		if (firstIndex == secondIndex) {
+			return executeWithLock(firstUserId, criticalSection);
+		}
+		final long outerUserId = firstIndex < secondIndex ? firstUserId : secondUserId;
+		final long innerUserId = firstIndex < secondIndex ? secondUserId : firstUserId;
+		final Lock outer = stripedLockPool.lockAt(Math.min(firstIndex, secondIndex));
+		final Lock inner = stripedLockPool.lockAt(Math.max(firstIndex, secondIndex));
+		acquire(outerUserId, outer);
+		final long outerLockedNanos = System.nanoTime();
+		try {
+			acquire(innerUserId, inner);
+			final long innerLockedNanos = System.nanoTime();
+			try {
+				return criticalSection.get();
+			} finally {
+				release(innerUserId, inner, innerLockedNanos);
+			}
+		} finally {
+			release(outerUserId, outer, outerLockedNanos);
+		}
+	}
+
+	/**
+	 * 입장 제한이나 대기 시간 초과로 거절한 요청 수입니다.
+	 */
+	public long rejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("point.lock.rejected", this, UserLockManager::rejectedCount)
+			.description("잠금을 획득하지 못하고 거절한 요청 수")
+			.register(registry);
+	}
+
+	private void acquire(long userId, Lock lock) {
+		// 자신을 포함하여 이 회원의 잠금을 보유하거나 기다리는 요청 수입니다.
+		final Admission admission = admit(userId);
+		final int admittedCount = admission.admittedCount();
+		if (admittedCount - 1 > maxQueuedPerUser) {
+			leave(userId, -1L);
+			throw reject(admission);
+		}
+		try {
+			if (!lock.tryLock(timeoutNanos(admission), TimeUnit.NANOSECONDS)) {
+				leave(userId, -1L);
+				throw reject(admission);
+			}
+		} catch (InterruptedException e) {
+			leave(userId, -1L);
+			Thread.currentThread().interrupt();
+			throw reject(admission);
+		}
+	}
+
+	/**
+	 * 같은 회원의 요청은 모두 같은 stripe의 잠금을 잡으므로, 잠금을 보유한 스레드가 갱신하는 이동 평균은 서로 겹치지 않습니다.
+	 */
+	private void release(long userId, Lock lock, long lockedNanos) {
+		final long elapsedNanos = System.nanoTime() - lockedNanos;
+		lock.unlock();
+		leave(userId, elapsedNanos);
+	}
+
+	private Admission admit(long userId) {
+		return admissions.compute(userId, (key, admission) -> admission == null
+			? new Admission(1, 0L)
+			: new Admission(admission.admittedCount() + 1, admission.averageCriticalSectionNanos()));
+	}
+
+	/**
+	 * 요청 수를 하나 줄이고, 잠금을 보유했던 요청이면(elapsedNanos >= 0) 이동 평균을 갱신합니다.
+	 * 마지막 요청이 끝나면 상태를 지웁니다.
+	 */
+	private void leave(long userId, long elapsedNanos) {
+		admissions.computeIfPresent(userId, (key, admission) -> {
+			if (admission.admittedCount() <= 1) {
+				return null;
+			}
+			final long average = admission.averageCriticalSectionNanos();
+			if (elapsedNanos < 0L) {
+				return new Admission(admission.admittedCount() - 1, average);
+			}
+			return new Admission(admission.admittedCount() - 1,
+				average == 0L ? Math.max(1L, elapsedNanos) : average + ((elapsedNanos - average) >> EWMA_SHIFT));
+		});
+	}
+
+	/**
+	 * 앞에서 기다리는 요청이 모두 평균만큼 임계 구역을 실행한다고 보고, 그 시간의 timeoutMultiplier배만큼 기다립니다.
+	 */
+	private long timeoutNanos(Admission admission) {
+		final long average = admission.averageCriticalSectionNanos();
+		if (average == 0L) {
+			return maxTimeoutNanos;
+		}
+		final double expectedNanos = (double)average * admission.admittedCount() * timeoutMultiplier;
+		return (long)Math.min(Math.max(expectedNanos, minTimeoutNanos), maxTimeoutNanos);
+	}
+
+	private TooManyRequestsException reject(Admission admission) {
+		rejectedCount.increment();
+		final long retryAfterSeconds = (long)Math.ceil(
+			(double)admission.averageCriticalSectionNanos() * admission.admittedCount() / TimeUnit.SECONDS.toNanos(1L));
+		return new TooManyRequestsException("잠시 후에 다시 시도해 주시기 바랍니다.", retryAfterSeconds);
+	}
+
+	/**
+	 * 한 회원의 잠금을 보유하거나 기다리는 요청 수와 임계 구역 실행 시간의 이동 평균입니다.
+	 * ConcurrentHashMap.compute 안에서 새 값으로 바꾸므로, 요청 수와 이동 평균이 함께 원자적으로 바뀝니다.
+	 */
+	private record Admission(int admittedCount, long averageCriticalSectionNanos) {
+	}
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.application;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청한 스레드에서 PointHistoryTable에 바로 내역을 기록합니다.
+ */
+@RequiredArgsConstructor
+public class DirectPointHistoryRecorder implements PointHistoryRecorder {
+	private final PointHistoryTable pointHistoryTable;
+
+	@Override
+	public void record(long userId, long amount, TransactionType type, long updateMillis) {
+		pointHistoryTable.insert(userId, amount, type, updateMillis);
+	}
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 단계별 소요 시간을 point.stage Timer에 type(charge, use)과 stage 태그로 나누어 기록합니다.
+ * 백분위 히스토그램을 함께 기록하므로, Prometheus에서 histogram_quantile로 단계별 p99를 계산할 수 있습니다.
+ * 요청마다 태그로 Timer를 찾지 않도록, 모든 (type, stage) 조합의 Timer를 미리 등록해 배열에 보관합니다.
+ */
+public class MicrometerPointStageTimer implements PointStageTimer {
+	private final Timer[][] timers;
+
+	public MicrometerPointStageTimer(MeterRegistry registry) {
+		final TransactionType[] types = TransactionType.values();
+		final Stage[] stages = Stage.values();
+		this.timers = new Timer[types.length][stages.length];
+		for (TransactionType type : types) {
+			for (Stage stage : stages) {
+				timers[type.ordinal()][stage.ordinal()] = Timer.builder("point.stage")
+					.description("포인트 충전/사용 단계별 소요 시간")
+					.tag("type", type.name().toLowerCase(Locale.ROOT))
+					.tag("stage", stage.name().toLowerCase(Locale.ROOT))
+					.publishPercentileHistogram()
+					.register(registry);
+			}
+		}
+	}
+
+	@Override
+	public void record(TransactionType type, Stage stage, long nanos) {
+		timers[type.ordinal()][stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+	}
+}
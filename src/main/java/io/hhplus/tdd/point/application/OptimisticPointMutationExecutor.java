@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * 잠금 없이 잔액을 읽고 검증한 뒤, 읽은 잔액이 그대로일 때만 저장(compare-and-set)하여 포인트를 변경합니다.
+ * 그 사이에 다른 요청이 잔액을 바꿨으면(충돌) 다시 읽어 재시도하므로, 충돌이 드문 경우에는 잠금을 획득하고 해제하는 비용과
+ * 대기하는 스레드의 컨텍스트 스위칭이 없습니다.
+ * <p>
+ * 충돌하면 재시도 전에 지수적으로 늘어나는(최대 maxBackoffNanos) 범위 안에서 임의의 시간만큼 대기(full jitter)하여,
+ * 같은 회원의 요청들이 동시에 다시 충돌하지 않도록 합니다.
+ * 사용자 경험 측면에서 계속 재시도하는 것 보다 빠르게 실패를 응답할 수 있도록 maxAttempts번 모두 충돌하면 429(Too Many Requests)로 실패를 응답합니다.
+ * <p>
+ * 다른 엔진과 같이 검증을 마친 변경을 포인트 로그에 먼저 기록한 뒤 저장합니다.
+ * 충돌하거나 저장에 실패하면 로그에 반대 방향의 내역을 기록하여 상쇄하므로, 로그를 다시 재생하면 저장에 성공한 변경만 남습니다.
+ * <p>
+ * 사용 한도(PointSpendLimiter)는 시도마다 검증을 마친 뒤 더하고, 저장에 실패(충돌)하면 되돌린 뒤 재시도합니다.
+ */
+public class OptimisticPointMutationExecutor {
+	private final UserPointStore userPointStore;
+	private final PointHistoryRecorder pointHistoryRecorder;
+	private final PointTransactionLog pointTransactionLog;
+	private final PointPolicyResolver pointPolicyResolver;
+	private final PointSpendLimiter pointSpendLimiter;
+	private final int maxAttempts;
+	private final long initialBackoffNanos;
+	private final long maxBackoffNanos;
+	private final LongAdder conflictCount = new LongAdder();
+
+	/**
+	 * @param maxAttempts 충돌 시 재시도를 포함한 최대 시도 횟수
+	 * @param initialBackoffNanos 첫 번째 충돌 후 대기 시간의 상한이며, 충돌할 때마다 두 배로 늘어납니다.
+	 * @param maxBackoffNanos 대기 시간 상한의 최댓값
+	 */
+	public OptimisticPointMutationExecutor(UserPointStore userPointStore, PointHistoryRecorder pointHistoryRecorder,
+		PointTransactionLog pointTransactionLog, PointPolicyResolver pointPolicyResolver,
+		PointSpendLimiter pointSpendLimiter, int maxAttempts, long initialBackoffNanos, long maxBackoffNanos) {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다. maxAttempts = " + maxAttempts);
+		}
+		if (initialBackoffNanos < 1 || maxBackoffNanos < initialBackoffNanos) {
+			throw new IllegalArgumentException("대기 시간은 1ns 이상이고 최댓값은 초깃값 이상이어야 합니다. initialBackoffNanos = "
+				+ initialBackoffNanos + ", maxBackoffNanos = " + maxBackoffNanos);
+		}
+		this.userPointStore = userPointStore;
+		this.pointHistoryRecorder = pointHistoryRecorder;
+		this.pointTransactionLog = pointTransactionLog;
+		this.pointPolicyResolver = pointPolicyResolver;
+		this.pointSpendLimiter = pointSpendLimiter;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffNanos = initialBackoffNanos;
+		this.maxBackoffNanos = maxBackoffNanos;
+	}
+
+	public UserPoint execute(long userId, TransactionType type, long amount, long updateMillis) {
+		final PointPolicy pointPolicy = pointPolicyResolver.resolve(userId);
+		long backoffNanos = initialBackoffNanos;
+		for (int attempt = 1; ; attempt++) {
+			UserPoint current = userPointStore.selectById(userId);
+			// 검증에 실패하면 재시도하지 않고 바로 실패를 응답합니다.
+			UserPoint changed = type == TransactionType.CHARGE
+				? current.charge(amount, updateMillis, pointPolicy)
+				: current.use(amount, updateMillis, pointPolicy);
+			final PointSpendLimiter.Consumption consumption = type == TransactionType.USE
+				? pointSpendLimiter.consume(userId, amount, updateMillis)
+				: PointSpendLimiter.Consumption.NONE;
+			UserPoint userPoint = compareAndUpdate(new PointTransactionLog.Entry(userId, type, amount, updateMillis),
+				consumption, current, changed);
+			if (userPoint != null) {
+				pointHistoryRecorder.record(userId, amount, type, updateMillis);
+				return userPoint;
+			}
+			conflictCount.increment();
+			if (attempt >= maxAttempts || Thread.currentThread().isInterrupted()) {
+				throw new TooManyRequestsException("잠시 후에 다시 시도해 주시기 바랍니다.", 1L);
+			}
+			LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoffNanos) + 1);
+			backoffNanos = Math.min(backoffNanos << 1, maxBackoffNanos);
+		}
+	}
+
+	/**
+	 * 변경을 로그에 기록한 뒤 저장합니다.
+	 * 충돌하거나 저장에 실패하면 로그에 반대 방향의 내역을 기록하여 상쇄하고, 이번 시도에서 더한 사용 한도를 되돌립니다.
+	 */
+	private UserPoint compareAndUpdate(PointTransactionLog.Entry entry, PointSpendLimiter.Consumption consumption,
+		UserPoint current, UserPoint changed) {
+		try {
+			pointTransactionLog.append(entry);
+		} catch (RuntimeException e) {
+			refund(entry, consumption);
+			throw e;
+		}
+		final UserPoint userPoint;
+		try {
+			userPoint = userPointStore.compareAndUpdate(entry.userId(), current.point(), changed.point());
+		} catch (RuntimeException e) {
+			refund(entry, consumption);
+			pointTransactionLog.compensate(List.of(entry), e);
+			throw e;
+		}
+		if (userPoint == null) {
+			refund(entry, consumption);
+			pointTransactionLog.append(entry.reversed());
+		}
+		return userPoint;
+	}
+
+	private void refund(PointTransactionLog.Entry entry, PointSpendLimiter.Consumption consumption) {
+		if (entry.type() == TransactionType.USE) {
+			pointSpendLimiter.refund(entry.userId(), entry.amount(), consumption);
+		}
+	}
+
+	/**
+	 * 지금까지 충돌하여 저장하지 못한 시도의 수입니다.
+	 */
+	public long conflictCount() {
+		return conflictCount.sum();
+	}
+}
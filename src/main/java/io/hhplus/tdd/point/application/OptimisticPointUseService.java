@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.application;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 잠금 없이 compare-and-set으로 포인트를 사용하는 서비스입니다.
+ * 다른 요청과 충돌한 경우에만 다시 읽어 재시도하므로, 같은 회원의 요청이 동시에 몰리는 경우가 드물 때 유리합니다.
+ */
+@RequiredArgsConstructor
+public class OptimisticPointUseService implements PointUseService {
+	private final OptimisticPointMutationExecutor optimisticPointMutationExecutor;
+
+	@Override
+	public UserPoint execute(Command command) {
+		return optimisticPointMutationExecutor.execute(command.userId(), TransactionType.USE, command.amount(),
+			command.currentTimeMillis());
+	}
+}
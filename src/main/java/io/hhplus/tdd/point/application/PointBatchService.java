@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 회원의 포인트 충전/사용 요청을 한 번에 처리합니다.
+ * 요청을 회원별로 묶은 뒤, 서로 다른 회원의 묶음은 parallelism개의 스레드에서 병렬로 처리하고
+ * 같은 회원의 요청은 하나의 스레드에서 요청된 순서대로 처리합니다.
+ * 각 요청은 설정된 PointChargeService / PointUseService로 처리하므로, 포인트 엔진의 동시성 제어와 내역 기록이 그대로 적용됩니다.
+ * <p>
+ * 요청마다 개별 API를 호출한 것과 같이 하나의 요청이 실패해도 나머지 요청은 계속 처리하며,
+ * 요청한 순서대로 요청별 결과(변경된 잔액 또는 실패 사유)를 반환합니다.
+ */
+@Slf4j
+public class PointBatchService implements AutoCloseable {
+	private static final int TASKS_PER_THREAD = 4;
+
+	private final PointChargeService pointChargeService;
+	private final PointUseService pointUseService;
+	private final ExecutorService executorService;
+	private final int parallelism;
+	private final int maxItems;
+
+	/**
+	 * @param parallelism 회원별 묶음을 동시에 처리할 스레드 수
+	 * @param maxItems 한 번에 처리할 수 있는 최대 요청 수
+	 */
+	public PointBatchService(PointChargeService pointChargeService, PointUseService pointUseService,
+		int parallelism, int maxItems, ThreadFactory threadFactory) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("병렬 처리 스레드 수는 1 이상이어야 합니다. parallelism = " + parallelism);
+		}
+		this.pointChargeService = pointChargeService;
+		this.pointUseService = pointUseService;
+		this.executorService = Executors.newFixedThreadPool(parallelism, threadFactory);
+		this.parallelism = parallelism;
+		this.maxItems = maxItems;
+	}
+
+	public List<ItemResult> execute(List<Item> items) {
+		if (items.size() > maxItems) {
+			throw new ApplicationException("한 번에 " + maxItems + "건을 초과하여 요청할 수 없습니다.");
+		}
+		final List<List<Integer>> userGroups = groupByUser(items);
+		final ItemResult[] results = new ItemResult[items.size()];
+		// 회원 수가 많아도 작업 수가 스레드 수에 비례하도록, 회원별 묶음을 작업마다 나누어 맡깁니다.
+		final int taskCount = Math.min(userGroups.size(), parallelism * TASKS_PER_THREAD);
+		final CompletableFuture<?>[] tasks = new CompletableFuture<?>[taskCount];
+		for (int task = 0; task < taskCount; task++) {
+			final int firstGroup = task;
+			tasks[task] = CompletableFuture.runAsync(() -> {
+				for (int group = firstGroup; group < userGroups.size(); group += taskCount) {
+					for (int index : userGroups.get(group)) {
+						results[index] = executeItem(items.get(index));
+					}
+				}
+			}, executorService);
+		}
+		CompletableFuture.allOf(tasks).join();
+		return List.of(results);
+	}
+
+	@Override
+	public void close() {
+		executorService.close();
+	}
+
+	/**
+	 * 회원이 처음 등장한 순서대로, 회원마다 요청의 위치(index)를 요청된 순서대로 모읍니다.
+	 */
+	private static List<List<Integer>> groupByUser(List<Item> items) {
+		final Map<Long, List<Integer>> userIdToIndexes = new LinkedHashMap<>();
+		for (int index = 0; index < items.size(); index++) {
+			userIdToIndexes.computeIfAbsent(items.get(index).userId(), (userId) -> new ArrayList<>()).add(index);
+		}
+		return new ArrayList<>(userIdToIndexes.values());
+	}
+
+	private ItemResult executeItem(Item item) {
+		if (item.type() == null) {
+			return ItemResult.failure(item, "충전(CHARGE) 또는 사용(USE) 중 하나를 지정해야 합니다.");
+		}
+		try {
+			if (item.type() == TransactionType.CHARGE) {
+				return ItemResult.success(item, pointChargeService.execute(
+					new PointChargeService.Command(item.userId(), item.amount(), System.currentTimeMillis())));
+			}
+			return ItemResult.success(item, pointUseService.execute(
+				new PointUseService.Command(item.userId(), item.amount(), System.currentTimeMillis())));
+		} catch (ApplicationException e) {
+			return ItemResult.failure(item, e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("포인트 일괄 처리 중 에러가 발생했습니다. userId = {}, type = {}", item.userId(), item.type(), e);
+			return ItemResult.failure(item, "에러가 발생했습니다.");
+		}
+	}
+
+	public record Item(
+		long userId,
+		long amount,
+		TransactionType type
+	) {
+	}
+
+	/**
+	 * 성공하면 userPoint에 변경된 잔액이, 실패하면 error에 실패 사유가 담깁니다.
+	 */
+	public record ItemResult(
+		long userId,
+		long amount,
+		TransactionType type,
+		UserPoint userPoint,
+		String error
+	) {
+		static ItemResult success(Item item, UserPoint userPoint) {
+			return new ItemResult(item.userId(), item.amount(), item.type(), userPoint, null);
+		}
+
+		static ItemResult failure(Item item, String error) {
+			return new ItemResult(item.userId(), item.amount(), item.type(), null, error);
+		}
+	}
+}
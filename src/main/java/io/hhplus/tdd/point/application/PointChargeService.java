@@ -9,6 +9,8 @@ import io.hhplus.tdd.point.domain.UserPoint;
  * - SynchronizedKeywordPointChargeService
  * - SynchronizedBlockPointChargeService
  * - ReentrantLockedPointChargeService
+ * - ShardedPointChargeService
+ * - OptimisticPointChargeService
  */
 public interface PointChargeService {
 	UserPoint execute(Command command);
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.application;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 포인트 충전/사용 내역 전체를 NDJSON(한 줄에 하나의 JSON)으로 내보냅니다.
+ * 전체 목록을 만들지 않고 PAGE_SIZE건씩 조회하여 바로 쓰고 flush하므로,
+ * 내역이 아무리 많아도 요청 하나가 사용하는 메모리는 한 페이지 분량으로 유지됩니다.
+ * 내역은 조회 API와 동일하게 id 내림차순으로 내보냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointHistoryExportService {
+	static final int PAGE_SIZE = 500;
+	private static final int LINE_SEPARATOR = '\n';
+
+	private final PointHistoryReadAllByUserIdService pointHistoryReadAllByUserIdService;
+	private final ObjectMapper objectMapper;
+
+	public void export(long userId, OutputStream outputStream) throws IOException {
+		final ObjectWriter objectWriter = objectMapper.writerFor(PointHistory.class);
+		Long cursor = null;
+		do {
+			PointHistoryReadAllByUserIdService.Page page = pointHistoryReadAllByUserIdService.read(userId, cursor,
+				PAGE_SIZE);
+			for (PointHistory pointHistory : page.histories()) {
+				outputStream.write(objectWriter.writeValueAsBytes(pointHistory));
+				outputStream.write(LINE_SEPARATOR);
+			}
+			// 페이지 단위로 내보내 클라이언트가 다운로드하는 동안 서버에 응답이 쌓이지 않도록 합니다.
+			outputStream.flush();
+			cursor = page.nextCursor();
+		} while (cursor != null);
+	}
+}
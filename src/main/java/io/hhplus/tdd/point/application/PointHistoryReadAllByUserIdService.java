@@ -1,28 +1,55 @@
 package io.hhplus.tdd.point.application;
 
-import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.global.exception.ApplicationException;
 import io.hhplus.tdd.point.domain.PointHistory;
 import lombok.RequiredArgsConstructor;
 
 /**
  * 포인트 충전/사용 내역 목록을 조회합니다.
- * PointHistory의 id값을 기준으로 내림차순 정렬했습니다.
+ * PointHistory의 id값을 기준으로 내림차순으로 반환합니다.
+ * 회원별로 이미 id 순서대로 쌓여 있는 목록을 읽으므로, 조회 비용이 해당 회원의 내역 수에만 비례하고 정렬하지 않습니다.
  */
 
 @Service
 @RequiredArgsConstructor
 public class PointHistoryReadAllByUserIdService {
-	private final PointHistoryTable pointHistoryTable;
+	public static final int MAX_LIMIT = 1000;
+
+	private final IndexedPointHistoryTable pointHistoryTable;
 
 	public List<PointHistory> read(long userId) {
-		return pointHistoryTable.selectAllByUserId(userId)
-			.stream()
-			.sorted(Comparator.comparingLong(PointHistory::id).reversed())
-			.toList();
+		return pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId);
+	}
+
+	/**
+	 * beforeId보다 작은 id의 내역을 최대 limit건 조회합니다.
+	 * 다음 페이지가 있는지 알기 위해 한 건을 더 조회하고, 다음 페이지가 있으면 마지막 내역의 id를 다음 cursor로 반환합니다.
+	 */
+	public Page read(long userId, Long beforeId, int limit) {
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new ApplicationException("내역은 한 번에 1건 이상 " + MAX_LIMIT + "건 이하로 조회할 수 있습니다.");
+		}
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId,
+			beforeId == null ? Long.MAX_VALUE : beforeId, limit + 1);
+		if (pointHistories.size() <= limit) {
+			return new Page(pointHistories, null);
+		}
+		List<PointHistory> currentPage = pointHistories.subList(0, limit);
+		return new Page(currentPage, currentPage.get(limit - 1).id());
+	}
+
+	/**
+	 * @param nextCursor 다음 페이지를 조회할 때 beforeId로 전달할 값이며, 마지막 페이지인 경우 null입니다.
+	 */
+	public record Page(
+		List<PointHistory> histories,
+		Long nextCursor
+	) {
+
 	}
 }
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.application;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * 포인트 충전/사용 내역을 기록합니다.
+ * PointHistoryRecorder의 구현체는 아래와 같습니다.
+ * - DirectPointHistoryRecorder : 요청한 스레드에서 바로 기록합니다.
+ * - WriteBehindPointHistoryRecorder : 큐에 넣고 바로 반환한 뒤, 별도의 스레드에서 순서대로 모아서 기록합니다.
+ */
+public interface PointHistoryRecorder {
+	void record(long userId, long amount, TransactionType type, long updateMillis);
+
+	/**
+	 * record()가 큐에 넣기만 하고 바로 반환하면 true입니다.
+	 * 충전/사용 서비스는 true이면 잠금을 잡은 상태에서 호출하여 같은 회원의 내역이 잔액을 변경한 순서대로 큐에 들어가게 하고,
+	 * false이면 잠금을 오래 잡지 않도록 잠금을 해제한 뒤에 호출합니다.
+	 */
+	default boolean isAsynchronous() {
+		return false;
+	}
+}
@@ -2,7 +2,7 @@ package io.hhplus.tdd.point.application;
 
 import org.springframework.stereotype.Service;
 
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.point.domain.UserPoint;
 import lombok.RequiredArgsConstructor;
 
@@ -12,9 +12,9 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class PointReadByIdService {
-	private final UserPointTable userPointTable;
+	private final UserPointStore userPointStore;
 
 	public UserPoint read(long userId) {
-		return userPointTable.selectById(userId);
+		return userPointStore.selectById(userId);
 	}
 }
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.application;
+
+/**
+ * 회원이 하루 동안, 그리고 최근 1시간 동안 사용할 수 있는 포인트를 제한합니다.
+ * 모든 포인트 엔진이 사용 검증을 마친 뒤 잔액을 저장하기 전에 호출합니다.
+ * - reentrant-lock : 회원의 잠금을 획득한 상태에서 호출합니다.
+ * - sharded : 회원이 배정된 shard 스레드에서 호출합니다.
+ * - optimistic : 시도마다 호출하고, 충돌하여 저장하지 못하면 refund()로 되돌립니다.
+ * refund()에는 consume()이 반환한 Consumption을 그대로 넘겨, 더했던 구간에서만 되돌리도록 합니다.
+ * PointSpendLimiter의 구현체는 아래와 같습니다.
+ * - NO_OP : 제한하지 않습니다.
+ * - RollingWindowPointSpendLimiter : 회원별로 시간 구간(bucket)마다 사용한 포인트를 합산하여 제한합니다.
+ */
+public interface PointSpendLimiter {
+	PointSpendLimiter NO_OP = new PointSpendLimiter() {
+		@Override
+		public Consumption consume(long userId, long amount, long updateMillis) {
+			return Consumption.NONE;
+		}
+
+		@Override
+		public void refund(long userId, long amount, Consumption consumption) {
+		}
+	};
+
+	/**
+	 * 사용한 포인트를 더하며, 한도를 넘으면 더하지 않고 PointValidationException을 발생시킵니다.
+	 *
+	 * @return 포인트를 더한 날짜와 구간
+	 */
+	Consumption consume(long userId, long amount, long updateMillis);
+
+	/**
+	 * consume() 이후에 잔액 저장이 실패하면, consume()이 더했던 날짜와 구간에서 포인트를 되돌립니다.
+	 * 그 사이에 날짜가 바뀌었거나 구간이 비워졌으면 되돌릴 포인트가 남아 있지 않으므로 되돌리지 않습니다.
+	 */
+	void refund(long userId, long amount, Consumption consumption);
+
+	/**
+	 * consume()이 포인트를 더한 날짜와 구간(slice)입니다.
+	 * 요청 시각이 가장 최근 구간보다 이전이면 가장 최근 구간에 더하므로, 요청 시각으로 구간을 다시 계산하지 않고 이 값을 사용합니다.
+	 * 구간의 번호는 1시간마다 다시 사용되므로, 그 사이에 구간이 비워졌는지 알 수 있도록 번호 대신 slice를 보관합니다.
+	 */
+	record Consumption(long day, long slice) {
+		public static final Consumption NONE = new Consumption(Long.MIN_VALUE, Long.MIN_VALUE);
+	}
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.application;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+/**
+ * 포인트 충전/사용을 처리하는 단계별 소요 시간을 기록합니다.
+ * 충전이 느려졌을 때 잠금 대기, 잔액 조회/저장, 로그 기록, 내역 기록 중 어느 단계에서 시간이 걸렸는지 구분할 수 있습니다.
+ * PointStageTimer의 구현체는 아래와 같습니다.
+ * - NO_OP : 기록하지 않습니다.
+ * - MicrometerPointStageTimer : 단계별 Timer(point.stage)에 기록합니다.
+ */
+public interface PointStageTimer {
+	PointStageTimer NO_OP = (type, stage, nanos) -> {
+	};
+
+	void record(TransactionType type, Stage stage, long nanos);
+
+	/**
+	 * - LOCK_WAIT : 회원의 잠금을 획득할 때까지 대기한 시간
+	 * - CRITICAL_SECTION : 잠금을 획득한 뒤 잔액을 저장할 때까지의 시간
+	 * - SELECT : 잔액을 조회하고 검증한 시간
+	 * - LOG : 포인트 로그(write-ahead log)에 기록한 시간
+	 * - UPDATE : 잔액을 저장한 시간
+	 * - HISTORY : 내역을 기록한 시간이며, write-behind이면 잠금을 잡은 상태에서 큐에 추가한 시간이고
+	 *   바로 기록하는 recorder이면 잠금을 해제한 뒤 기록한 시간입니다.
+	 */
+	enum Stage {
+		LOCK_WAIT,
+		CRITICAL_SECTION,
+		SELECT,
+		LOG,
+		UPDATE,
+		HISTORY
+	}
+}
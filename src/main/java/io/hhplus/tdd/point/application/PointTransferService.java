@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.application;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 한 회원의 포인트를 다른 회원에게 옮깁니다(선물).
+ * 보내는 회원의 사용과 받는 회원의 충전이 함께 반영되거나 함께 반영되지 않아야 합니다.
+ */
+public interface PointTransferService {
+	Result execute(Command command);
+
+	record Command(
+		long senderId,
+		long receiverId,
+		long amount,
+		long currentTimeMillis
+	) {
+	}
+
+	record Result(
+		UserPoint sender,
+		UserPoint receiver
+	) {
+	}
+}
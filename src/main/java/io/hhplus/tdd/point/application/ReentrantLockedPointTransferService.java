@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ReentrantLock을 사용하여 구현한 포인트 선물 서비스입니다.
+ * 포인트 사용 서비스와 충전 서비스를 차례로 호출하면 그 사이에 다른 요청이 끼어들 수 있고,
+ * 두 회원의 잠금을 각자 원하는 순서로 획득하면 서로 반대 방향으로 선물할 때 교착 상태에 빠질 수 있습니다.
+ * 따라서 UserLockManager가 정한 순서대로 두 회원의 잠금을 모두 획득한 뒤, 두 회원의 잔액을 검증하고 함께 저장합니다.
+ * 포인트 충전/사용 서비스와 같은 UserLockManager를 사용하므로, point.engine.type=reentrant-lock 일 때만 등록합니다.
+ * 로그에 기록한 뒤 잔액 저장에 실패하면, 저장한 잔액을 되돌리고 로그에 반대 방향의 내역을 기록하여 상쇄합니다.
+ * 선물한 포인트는 선물한 회원이 사용한 포인트로 보고 PointSpendLimiter의 사용 한도에 포함합니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.engine", name = "type", havingValue = "reentrant-lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReentrantLockedPointTransferService implements PointTransferService {
+	private final UserPointStore userPointStore;
+	private final PointHistoryRecorder pointHistoryRecorder;
+	private final UserLockManager userLockManager;
+	private final PointTransactionLog pointTransactionLog;
+	private final PointPolicyResolver pointPolicyResolver;
+	private final PointSpendLimiter pointSpendLimiter;
+
+	@Override
+	public Result execute(Command command) {
+		if (command.senderId() == command.receiverId()) {
+			throw new ApplicationException("자기 자신에게 포인트를 선물할 수 없습니다.");
+		}
+		final PointPolicy senderPointPolicy = pointPolicyResolver.resolve(command.senderId());
+		final PointPolicy receiverPointPolicy = pointPolicyResolver.resolve(command.receiverId());
+		Result result = userLockManager.executeWithLocks(command.senderId(), command.receiverId(), () -> {
+			// 두 회원 모두 검증을 마친 뒤에 저장하므로, 한 쪽만 반영되는 경우가 없습니다.
+			UserPoint usedUserPoint = userPointStore.selectById(command.senderId())
+				.use(command.amount(), command.currentTimeMillis(), senderPointPolicy);
+			UserPoint chargedUserPoint = userPointStore.selectById(command.receiverId())
+				.charge(command.amount(), command.currentTimeMillis(), receiverPointPolicy);
+			final PointSpendLimiter.Consumption consumption = pointSpendLimiter.consume(command.senderId(),
+				command.amount(), command.currentTimeMillis());
+			final Result saved;
+			try {
+				final List<PointTransactionLog.Entry> entries = List.of(
+					new PointTransactionLog.Entry(command.senderId(), TransactionType.USE, command.amount(),
+						command.currentTimeMillis()),
+					new PointTransactionLog.Entry(command.receiverId(), TransactionType.CHARGE, command.amount(),
+						command.currentTimeMillis()));
+				pointTransactionLog.appendAll(entries);
+				saved = save(usedUserPoint, chargedUserPoint, entries);
+			} catch (RuntimeException e) {
+				pointSpendLimiter.refund(command.senderId(), command.amount(), consumption);
+				throw e;
+			}
+			// 큐에 넣기만 하는 recorder는 잠금을 잡은 상태에서 호출하여, 잔액을 변경한 순서대로 내역이 기록되도록 합니다.
+			if (pointHistoryRecorder.isAsynchronous()) {
+				recordHistories(command);
+			}
+			return saved;
+		});
+		if (!pointHistoryRecorder.isAsynchronous()) {
+			recordHistories(command);
+		}
+		return result;
+	}
+
+	/**
+	 * 받는 회원의 잔액 저장에 실패하면 먼저 저장한 보내는 회원의 잔액을 되돌리고,
+	 * 실패로 응답한 선물이 다시 시작할 때 복구되지 않도록 로그에서 두 내역을 상쇄합니다.
+	 */
+	private Result save(UserPoint usedUserPoint, UserPoint chargedUserPoint, List<PointTransactionLog.Entry> entries) {
+		final UserPoint sender;
+		try {
+			sender = userPointStore.insertOrUpdate(usedUserPoint.id(), usedUserPoint.point());
+		} catch (RuntimeException e) {
+			pointTransactionLog.compensate(entries, e);
+			throw e;
+		}
+		try {
+			return new Result(sender, userPointStore.insertOrUpdate(chargedUserPoint.id(), chargedUserPoint.point()));
+		} catch (RuntimeException e) {
+			try {
+				userPointStore.insertOrUpdate(sender.id(), sender.point() + entries.get(0).amount());
+			} catch (RuntimeException restoreException) {
+				e.addSuppressed(restoreException);
+			}
+			pointTransactionLog.compensate(entries, e);
+			throw e;
+		}
+	}
+
+	private void recordHistories(Command command) {
+		pointHistoryRecorder.record(command.senderId(), command.amount(), TransactionType.USE,
+			command.currentTimeMillis());
+		pointHistoryRecorder.record(command.receiverId(), command.amount(), TransactionType.CHARGE,
+			command.currentTimeMillis());
+	}
+}
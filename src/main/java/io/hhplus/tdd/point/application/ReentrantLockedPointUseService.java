@@ -1,59 +1,98 @@
 package io.hhplus.tdd.point.application;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.global.lock.UserLockManager;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
 import lombok.RequiredArgsConstructor;
 
 /**
  * ReentrantLock을 사용하여 구현한 포인트 사용 서비스입니다.
  * 임계구역 범위를 최소화하여 구현했습니다.
- * 사용자 경험 측면해서 계속 대기하는 것 보다 실패하더라도 빠른 응답을 줄 수 있도록 락을 10초 동안 획득하지 못하면 실패를 응답하도록 구현했습니다.
+ * 사용자 경험 측면에서 계속 대기하는 것 보다 실패하더라도 빠른 응답을 줄 수 있도록, UserLockManager가 잠금을 기다리는 요청 수와 대기 시간을 제한합니다.
+ * 같은 회원의 잠금을 기다리는 요청이 입장 제한(maxQueuedPerUser)을 넘거나, 임계 구역 실행 시간의 이동 평균으로 정한 대기 시간 안에
+ * 잠금을 획득하지 못하면 TooManyRequestsException으로 429를 응답합니다.
  * 또한, 먼저 요청한 사용자가 먼저 응답받을 수 있도록 ReetrantLock의 공정성을 추가했습니다.
+ * 포인트 충전 서비스와 같은 UserLockManager를 사용하여, 동일한 사용자의 충전과 사용이 동시에 실행되지 않도록 했습니다.
+ * 잠금 대기, 잔액 조회/저장, 로그 기록, 내역 기록에 걸린 시간을 단계별로 PointStageTimer에 기록합니다.
+ * 로그에 기록한 뒤 잔액 저장에 실패하면, 로그에 반대 방향의 내역을 기록하여 상쇄합니다.
+ * 하루/최근 1시간 사용 한도는 잠금을 획득한 상태에서 PointSpendLimiter로 검증하며, 잔액 저장이 실패하면 되돌립니다.
  */
 @Service
+@ConditionalOnProperty(prefix = "point.engine", name = "type", havingValue = "reentrant-lock", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ReentrantLockedPointUseService implements PointUseService {
-	private final UserPointTable userPointTable;
-	private final PointHistoryTable pointHistoryTable;
-	private final Map<Long, Lock> userIdToLockMap = new ConcurrentHashMap<>();
+	private final UserPointStore userPointStore;
+	private final PointHistoryRecorder pointHistoryRecorder;
+	private final UserLockManager userLockManager;
+	private final PointTransactionLog pointTransactionLog;
+	private final PointStageTimer pointStageTimer;
+	private final PointPolicyResolver pointPolicyResolver;
+	private final PointSpendLimiter pointSpendLimiter;
 
 	@Override
 	public UserPoint execute(Command command) {
-		Lock lock = userIdToLockMap.computeIfAbsent(command.userId(), (userId) -> new ReentrantLock(true));
-		tryLock(lock);
+		// 등급별 한도는 잠금을 획득하기 전에 조회합니다.
+		final PointPolicy pointPolicy = pointPolicyResolver.resolve(command.userId());
+		final long startNanos = System.nanoTime();
+		UserPoint userPoint = userLockManager.executeWithLock(command.userId(), () -> {
+			final long lockedNanos = System.nanoTime();
+			pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.LOCK_WAIT, lockedNanos - startNanos);
+			UserPoint usedUserPoint = userPointStore.selectById(command.userId())
+				.use(command.amount(), command.currentTimeMillis(), pointPolicy);
+			final PointSpendLimiter.Consumption consumption = pointSpendLimiter.consume(command.userId(),
+				command.amount(), command.currentTimeMillis());
+			final long selectedNanos = System.nanoTime();
+			pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.SELECT, selectedNanos - lockedNanos);
+			final UserPoint savedUserPoint;
+			final long loggedNanos;
+			try {
+				// 검증을 마친 변경을 로그에 먼저 기록한 뒤 잔액을 저장합니다.
+				final PointTransactionLog.Entry entry = new PointTransactionLog.Entry(command.userId(),
+					TransactionType.USE, command.amount(), command.currentTimeMillis());
+				pointTransactionLog.append(entry);
+				loggedNanos = System.nanoTime();
+				try {
+					savedUserPoint = userPointStore.insertOrUpdate(usedUserPoint.id(), usedUserPoint.point());
+				} catch (RuntimeException e) {
+					// 실패로 응답한 사용이 다시 시작할 때 복구되지 않도록 로그에서 상쇄합니다.
+					pointTransactionLog.compensate(List.of(entry), e);
+					throw e;
+				}
+			} catch (RuntimeException e) {
+				pointSpendLimiter.refund(command.userId(), command.amount(), consumption);
+				throw e;
+			}
+			final long updatedNanos = System.nanoTime();
+			pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.LOG, loggedNanos - selectedNanos);
+			pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.UPDATE, updatedNanos - loggedNanos);
+			pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.CRITICAL_SECTION,
+				updatedNanos - lockedNanos);
+			// 큐에 넣기만 하는 recorder는 잠금을 잡은 상태에서 호출하여, 잔액을 변경한 순서대로 내역이 기록되도록 합니다.
+			if (pointHistoryRecorder.isAsynchronous()) {
+				recordHistory(command);
+			}
+			return savedUserPoint;
+		});
 
-		UserPoint userPoint;
-		try {
-			UserPoint usedUserPoint = userPointTable.selectById(command.userId())
-				.use(command.amount(), command.currentTimeMillis());
-			userPoint = userPointTable.insertOrUpdate(usedUserPoint.id(), usedUserPoint.point());
-		} finally {
-			lock.unlock();
+		if (!pointHistoryRecorder.isAsynchronous()) {
+			recordHistory(command);
 		}
-
-		pointHistoryTable.insert(command.userId(), command.amount(), TransactionType.USE, command.currentTimeMillis());
-
 		return userPoint;
 	}
 
-	private void tryLock(Lock lock) {
-		try {
-			if (!lock.tryLock(10, TimeUnit.SECONDS)) {
-				throw new RuntimeException("잠시 후에 다시 시도해 주시기 바랍니다.");
-			}
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
-		}
+	private void recordHistory(Command command) {
+		final long startNanos = System.nanoTime();
+		pointHistoryRecorder.record(command.userId(), command.amount(), TransactionType.USE,
+			command.currentTimeMillis());
+		pointStageTimer.record(TransactionType.USE, PointStageTimer.Stage.HISTORY, System.nanoTime() - startNanos);
 	}
-
 }
@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point.application;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+
+/**
+ * 회원별로 오늘 사용한 포인트와 최근 1시간 동안 사용한 포인트를 기록하여 한도를 넘는 사용을 거절합니다.
+ * PointHistoryTable의 내역을 매번 조회하여 합산하면 내역이 쌓일수록 느려지므로, 회원마다 아래 값만 보관합니다.
+ * - 하루 : 오늘의 날짜(zoneOffset 기준)와 오늘 사용한 포인트
+ * - 최근 1시간 : 1시간을 bucketCount개의 구간으로 나눈 ring과 그 합계
+ * 요청이 들어오면 지나간 구간만 비우고(최대 bucketCount개) 합계를 비교하므로, 내역 수와 관계없이 일정한 시간에 검증합니다.
+ * 최근 1시간은 구간 단위로 계산하므로, 가장 오래된 구간은 최대 (1시간 / bucketCount)만큼 일찍 또는 늦게 빠집니다.
+ * <p>
+ * 회원별 기록은 Caffeine 캐시에 보관하며, 하루 동안 사용하지 않은 회원의 기록만 삭제합니다.
+ * 크기를 넘었다고 기록을 삭제하면 그 회원의 합계가 0부터 다시 계산되어 한도를 넘는 사용이 허용되므로, 크기로는 삭제하지 않습니다.
+ * 대신 기록을 보관 중인 회원 수가 maximumUsers에 도달하면, 기록이 없는 회원의 사용을 TooManyRequestsException으로 거절합니다.
+ */
+public class RollingWindowPointSpendLimiter implements PointSpendLimiter {
+	private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1L);
+	private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1L);
+	private static final long RETRY_AFTER_SECONDS = 60L;
+
+	private final long dailyLimit;
+	private final long hourlyLimit;
+	private final int bucketCount;
+	private final long bucketMillis;
+	private final long zoneOffsetMillis;
+	private final long maximumUsers;
+	private final Cache<Long, SpendWindow> cache;
+
+	/**
+	 * @param dailyLimit 하루에 사용할 수 있는 포인트이며, 0 이하이면 제한하지 않습니다.
+	 * @param hourlyLimit 최근 1시간 동안 사용할 수 있는 포인트이며, 0 이하이면 제한하지 않습니다.
+	 * @param bucketCount 1시간을 나누는 구간 수이며, 클수록 정확하지만 회원당 메모리(8 bytes * bucketCount)가 늘어납니다.
+	 * @param zoneOffset 하루가 바뀌는 시각의 기준
+	 * @param maximumUsers 기록을 보관할 최대 회원 수이며, 도달하면 기록이 없는 회원의 사용을 거절합니다.
+	 */
+	public RollingWindowPointSpendLimiter(long dailyLimit, long hourlyLimit, int bucketCount, ZoneOffset zoneOffset,
+		long maximumUsers) {
+		if (bucketCount < 1) {
+			throw new IllegalArgumentException("구간 수는 1 이상이어야 합니다. bucketCount = " + bucketCount);
+		}
+		this.dailyLimit = dailyLimit > 0 ? dailyLimit : Long.MAX_VALUE;
+		this.hourlyLimit = hourlyLimit > 0 ? hourlyLimit : Long.MAX_VALUE;
+		this.bucketCount = bucketCount;
+		this.bucketMillis = (HOUR_MILLIS + bucketCount - 1) / bucketCount;
+		this.zoneOffsetMillis = TimeUnit.SECONDS.toMillis(zoneOffset.getTotalSeconds());
+		this.maximumUsers = maximumUsers;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterAccess(Duration.ofMillis(DAY_MILLIS))
+			.build();
+	}
+
+	@Override
+	public PointSpendLimiter.Consumption consume(long userId, long amount, long updateMillis) {
+		if (cache.estimatedSize() >= maximumUsers && cache.getIfPresent(userId) == null) {
+			// 만료된 기록이 아직 정리되지 않아 크기에 포함되어 있을 수 있으므로, 정리한 뒤에 다시 확인합니다.
+			cache.cleanUp();
+			if (cache.estimatedSize() >= maximumUsers) {
+				throw new TooManyRequestsException("잠시 후에 다시 시도해 주시기 바랍니다.", RETRY_AFTER_SECONDS);
+			}
+		}
+		final long day = Math.floorDiv(updateMillis + zoneOffsetMillis, DAY_MILLIS);
+		final long slice = Math.floorDiv(updateMillis, bucketMillis);
+		final PointSpendLimiter.Consumption[] consumption = new PointSpendLimiter.Consumption[1];
+		// 한도를 넘으면 compute 안에서 예외가 발생하므로, 처음 사용하는 회원의 기록도 캐시에 추가되지 않습니다.
+		cache.asMap().compute(userId, (id, spendWindow) -> {
+			final SpendWindow window = spendWindow == null ? new SpendWindow(bucketCount) : spendWindow;
+			consumption[0] = window.consume(day, slice, amount, dailyLimit, hourlyLimit);
+			return window;
+		});
+		return consumption[0];
+	}
+
+	@Override
+	public void refund(long userId, long amount, PointSpendLimiter.Consumption consumption) {
+		cache.asMap().computeIfPresent(userId, (id, window) -> {
+			window.refund(consumption, amount);
+			return window;
+		});
+	}
+
+	/**
+	 * 기록을 보관 중인 회원 수의 근사값입니다.
+	 */
+	public long userCount() {
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * 한 회원의 기록이며, ConcurrentMap.compute 안에서만 읽고 바꾸므로 동시에 접근하지 않습니다.
+	 * 시각이 뒤로 돌아간 요청은 가장 최근 날짜와 구간에 더합니다.
+	 */
+	private static final class SpendWindow {
+		private final long[] buckets;
+		private long day = Long.MIN_VALUE;
+		private long dailyTotal;
+		private long latestSlice = Long.MIN_VALUE;
+		private long hourlyTotal;
+
+		private SpendWindow(int bucketCount) {
+			this.buckets = new long[bucketCount];
+		}
+
+		private PointSpendLimiter.Consumption consume(long day, long slice, long amount, long dailyLimit,
+			long hourlyLimit) {
+			advance(day, slice);
+			if (amount > dailyLimit - dailyTotal) {
+				throw PointErrorCode.DAILY_SPEND_LIMIT_EXCEEDED.exception();
+			}
+			if (amount > hourlyLimit - hourlyTotal) {
+				throw PointErrorCode.HOURLY_SPEND_LIMIT_EXCEEDED.exception();
+			}
+			dailyTotal += amount;
+			hourlyTotal += amount;
+			buckets[bucketIndex(latestSlice)] += amount;
+			return new PointSpendLimiter.Consumption(this.day, latestSlice);
+		}
+
+		private void refund(PointSpendLimiter.Consumption consumption, long amount) {
+			// 더했던 날짜가 지났거나 더했던 구간이 이미 비워졌으면 되돌릴 포인트가 남아 있지 않습니다.
+			if (consumption.day() == day) {
+				dailyTotal -= Math.min(dailyTotal, amount);
+			}
+			if (consumption.slice() + buckets.length > latestSlice) {
+				final int index = bucketIndex(consumption.slice());
+				final long refunded = Math.min(buckets[index], amount);
+				buckets[index] -= refunded;
+				hourlyTotal -= refunded;
+			}
+		}
+
+		private void advance(long day, long slice) {
+			if (day > this.day) {
+				this.day = day;
+				this.dailyTotal = 0L;
+			}
+			if (slice <= latestSlice) {
+				return;
+			}
+			if (slice >= latestSlice + buckets.length) {
+				Arrays.fill(buckets, 0L);
+				hourlyTotal = 0L;
+			} else {
+				for (long expired = latestSlice + 1; expired <= slice; expired++) {
+					final int index = bucketIndex(expired);
+					hourlyTotal -= buckets[index];
+					buckets[index] = 0L;
+				}
+			}
+			latestSlice = slice;
+		}
+
+		private int bucketIndex(long slice) {
+			return (int)Math.floorMod(slice, (long)buckets.length);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 단일 스레드(shard)에서 포인트를 충전하는 서비스입니다.
+ * 잠금을 기다리며 스레드가 블로킹되지 않기 때문에, 특정 사용자에게 요청이 몰려도 잠금 경합과 컨텍스트 스위칭이 발생하지 않습니다.
+ */
+@RequiredArgsConstructor
+public class ShardedPointChargeService implements PointChargeService {
+	private final ShardedPointMutationExecutor shardedPointMutationExecutor;
+
+	@Override
+	public UserPoint execute(Command command) {
+		return ShardedPointMutationExecutor.await(submit(command));
+	}
+
+	public CompletableFuture<UserPoint> submit(Command command) {
+		return shardedPointMutationExecutor.submit(new ShardedPointMutationExecutor.Mutation(
+			command.userId(),
+			TransactionType.CHARGE,
+			command.amount(),
+			command.currentTimeMillis()
+		));
+	}
+}
@@ -0,0 +1,290 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 ID의 해시값으로 포인트 변경 요청을 N개의 shard 중 하나에 배정하여 실행합니다.
+ * 각 shard는 하나의 스레드가 자신의 mailbox(큐)에 쌓인 요청을 순서대로 처리하므로,
+ * 동일한 사용자의 요청은 항상 같은 스레드에서 직렬로 실행되어 잠금 없이도 Lost Update가 발생하지 않습니다.
+ * 요청한 스레드는 잠금을 기다리며 블로킹되는 대신 CompletableFuture로 결과를 전달받습니다.
+ *
+ * maxBatchSize가 1보다 크면 mailbox에 쌓인 요청을 최대 maxBatchSize건까지 한 번에 꺼내 사용자별로 묶어 처리합니다(group commit).
+ * 같은 사용자의 요청은 한 번만 조회하고, 요청마다 검증하며 순서대로 충전/사용한 뒤 한 번만 저장합니다.
+ * 각 요청은 자신이 적용된 시점의 잔액으로 응답받으며, 검증에 실패한 요청만 실패로 응답합니다.
+ * 잔액을 저장하기 전에 적용된 요청들을 PointTransactionLog에 한 번에 기록하므로, fsync 대기도 묶음당 한 번입니다.
+ * 로그에 기록한 뒤 잔액 저장에 실패하면, 로그에 반대 방향의 내역을 기록하여 상쇄합니다.
+ * 사용 요청은 검증을 마친 뒤 PointSpendLimiter의 사용 한도에 더하며, 로그 기록이나 저장에 실패하면 되돌립니다.
+ */
+@Slf4j
+public class ShardedPointMutationExecutor implements AutoCloseable {
+	private final UserPointStore userPointStore;
+	private final PointHistoryRecorder pointHistoryRecorder;
+	private final PointTransactionLog pointTransactionLog;
+	private final PointPolicyResolver pointPolicyResolver;
+	private final PointSpendLimiter pointSpendLimiter;
+	private final Shard[] shards;
+	private final int maxBatchSize;
+	private volatile boolean closed = false;
+
+	public ShardedPointMutationExecutor(UserPointStore userPointStore, PointHistoryRecorder pointHistoryRecorder,
+		int shardCount) {
+		this(userPointStore, pointHistoryRecorder, shardCount, 1);
+	}
+
+	public ShardedPointMutationExecutor(UserPointStore userPointStore, PointHistoryRecorder pointHistoryRecorder,
+		int shardCount, int maxBatchSize) {
+		this(userPointStore, pointHistoryRecorder, PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT,
+			PointSpendLimiter.NO_OP, shardCount, maxBatchSize, Thread::new);
+	}
+
+	/**
+	 * @param threadFactory shard 스레드를 생성합니다. 가상 스레드 모드에서는 가상 스레드 팩토리를 전달합니다.
+	 */
+	public ShardedPointMutationExecutor(UserPointStore userPointStore, PointHistoryRecorder pointHistoryRecorder,
+		PointTransactionLog pointTransactionLog, PointPolicyResolver pointPolicyResolver,
+		PointSpendLimiter pointSpendLimiter, int shardCount, int maxBatchSize, ThreadFactory threadFactory) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("shard 개수는 1 이상이어야 합니다. shardCount = " + shardCount);
+		}
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("batch 크기는 1 이상이어야 합니다. maxBatchSize = " + maxBatchSize);
+		}
+		this.userPointStore = userPointStore;
+		this.pointHistoryRecorder = pointHistoryRecorder;
+		this.pointTransactionLog = pointTransactionLog;
+		this.pointPolicyResolver = pointPolicyResolver;
+		this.pointSpendLimiter = pointSpendLimiter;
+		this.maxBatchSize = maxBatchSize;
+		this.shards = new Shard[shardCount];
+		for (int index = 0; index < shardCount; index++) {
+			shards[index] = new Shard(index, threadFactory);
+			shards[index].thread.start();
+		}
+	}
+
+	public CompletableFuture<UserPoint> submit(Mutation mutation) {
+		if (closed) {
+			throw new RejectedExecutionException("포인트 변경 요청을 더 이상 받을 수 없습니다.");
+		}
+		CompletableFuture<UserPoint> future = new CompletableFuture<>();
+		final Task task = new Task(mutation, future);
+		final BlockingQueue<Task> mailbox = shards[shardIndex(mutation.userId())].mailbox;
+		mailbox.add(task);
+		// close()와 동시에 접수되어 종료 신호 뒤에 들어갔다면, shard가 꺼내 가지 않았을 때만 회수하여 거절합니다.
+		if (closed && mailbox.remove(task)) {
+			throw new RejectedExecutionException("포인트 변경 요청을 더 이상 받을 수 없습니다.");
+		}
+		return future;
+	}
+
+	/**
+	 * 동기 방식의 서비스에서 결과를 기다릴 때 사용합니다.
+	 * CompletionException으로 감싸진 예외(ApplicationException 등)를 그대로 다시 던집니다.
+	 */
+	public static UserPoint await(CompletableFuture<UserPoint> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 이미 접수된 요청을 모두 처리한 뒤 shard 스레드를 종료합니다.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		for (Shard shard : shards) {
+			shard.mailbox.add(Task.POISON_PILL);
+		}
+		for (Shard shard : shards) {
+			try {
+				shard.thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	int shardIndex(long userId) {
+		return Math.floorMod(Long.hashCode(userId), shards.length);
+	}
+
+	/**
+	 * 한 사용자의 요청들을 한 번의 조회와 한 번의 저장으로 처리합니다.
+	 */
+	private void applyAll(long userId, List<Task> tasks) {
+		final List<Task> appliedTasks = new ArrayList<>(tasks.size());
+		final List<UserPoint> intermediateUserPoints = new ArrayList<>(tasks.size());
+		final List<PointSpendLimiter.Consumption> consumptions = new ArrayList<>(tasks.size());
+		final UserPoint savedUserPoint;
+		try {
+			UserPoint userPoint = userPointStore.selectById(userId);
+			for (Task task : tasks) {
+				final Mutation mutation = task.mutation();
+				final UserPoint appliedUserPoint;
+				final PointSpendLimiter.Consumption consumption;
+				try {
+					appliedUserPoint = apply(userPoint, mutation);
+					consumption = mutation.type() == TransactionType.USE
+						? pointSpendLimiter.consume(mutation.userId(), mutation.amount(), mutation.updateMillis())
+						: PointSpendLimiter.Consumption.NONE;
+				} catch (RuntimeException e) {
+					// 검증에 실패한 요청만 제외하고, 나머지 요청은 이어서 처리합니다.
+					task.future().completeExceptionally(e);
+					continue;
+				}
+				userPoint = appliedUserPoint;
+				consumptions.add(consumption);
+				appliedTasks.add(task);
+				intermediateUserPoints.add(userPoint);
+			}
+			if (appliedTasks.isEmpty()) {
+				return;
+			}
+			final List<PointTransactionLog.Entry> entries = appliedTasks.stream()
+				.map(Task::mutation)
+				.map(mutation -> new PointTransactionLog.Entry(mutation.userId(), mutation.type(), mutation.amount(),
+					mutation.updateMillis()))
+				.toList();
+			pointTransactionLog.appendAll(entries);
+			try {
+				savedUserPoint = userPointStore.insertOrUpdate(userId, userPoint.point());
+			} catch (RuntimeException e) {
+				// 실패로 응답한 요청들이 다시 시작할 때 복구되지 않도록 로그에서 상쇄합니다.
+				pointTransactionLog.compensate(entries, e);
+				throw e;
+			}
+		} catch (RuntimeException e) {
+			for (int index = 0; index < appliedTasks.size(); index++) {
+				final Mutation mutation = appliedTasks.get(index).mutation();
+				if (mutation.type() == TransactionType.USE) {
+					pointSpendLimiter.refund(mutation.userId(), mutation.amount(), consumptions.get(index));
+				}
+			}
+			tasks.forEach(task -> task.future().completeExceptionally(e));
+			return;
+		}
+
+		// 잔액 변경이 끝나면 바로 응답하고, 내역은 응답 이후에 기록합니다.
+		final int lastIndex = appliedTasks.size() - 1;
+		for (int index = 0; index < lastIndex; index++) {
+			appliedTasks.get(index).future().complete(intermediateUserPoints.get(index));
+		}
+		appliedTasks.get(lastIndex).future().complete(savedUserPoint);
+		for (Task task : appliedTasks) {
+			final Mutation mutation = task.mutation();
+			pointHistoryRecorder.record(mutation.userId(), mutation.amount(), mutation.type(), mutation.updateMillis());
+		}
+	}
+
+	private UserPoint apply(UserPoint userPoint, Mutation mutation) {
+		final PointPolicy pointPolicy = pointPolicyResolver.resolve(mutation.userId());
+		if (mutation.type() == TransactionType.CHARGE) {
+			return userPoint.charge(mutation.amount(), mutation.updateMillis(), pointPolicy);
+		}
+		return userPoint.use(mutation.amount(), mutation.updateMillis(), pointPolicy);
+	}
+
+	public record Mutation(
+		long userId,
+		TransactionType type,
+		long amount,
+		long updateMillis
+	) {
+	}
+
+	private record Task(
+		Mutation mutation,
+		CompletableFuture<UserPoint> future
+	) {
+		private static final Task POISON_PILL = new Task(null, null);
+	}
+
+	private final class Shard implements Runnable {
+		private final BlockingQueue<Task> mailbox = new LinkedBlockingQueue<>();
+		private final Thread thread;
+
+		private Shard(int index, ThreadFactory threadFactory) {
+			this.thread = threadFactory.newThread(this);
+			this.thread.setName("point-shard-" + index);
+		}
+
+		@Override
+		public void run() {
+			try {
+				process();
+			} finally {
+				rejectPending();
+			}
+		}
+
+		private void process() {
+			final List<Task> batch = new ArrayList<>(maxBatchSize);
+			boolean running = true;
+			while (running) {
+				try {
+					batch.add(mailbox.take());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				mailbox.drainTo(batch, maxBatchSize - 1);
+
+				final Map<Long, List<Task>> userIdToTasks = new LinkedHashMap<>();
+				for (Task task : batch) {
+					if (task == Task.POISON_PILL) {
+						running = false;
+						continue;
+					}
+					userIdToTasks.computeIfAbsent(task.mutation().userId(), (userId) -> new ArrayList<>()).add(task);
+				}
+				batch.clear();
+
+				userIdToTasks.forEach((userId, tasks) -> {
+					try {
+						applyAll(userId, tasks);
+					} catch (RuntimeException e) {
+						log.error("포인트 내역 기록 중 에러가 발생했습니다. userId = {}", userId, e);
+					}
+				});
+			}
+		}
+
+		/**
+		 * 종료 신호 뒤에 남은 요청은 처리하지 않고 실패로 응답하여, 결과를 기다리는 스레드가 멈추지 않도록 합니다.
+		 */
+		private void rejectPending() {
+			final List<Task> pending = new ArrayList<>();
+			mailbox.drainTo(pending);
+			for (Task task : pending) {
+				if (task != Task.POISON_PILL) {
+					task.future().completeExceptionally(
+						new RejectedExecutionException("포인트 변경 요청을 더 이상 받을 수 없습니다."));
+				}
+			}
+		}
+	}
+}
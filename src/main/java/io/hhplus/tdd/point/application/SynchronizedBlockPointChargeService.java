@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * synchronized block 사용하여 구현한 포인트 충전 서비스입니다.
  * 임계구역 범위를 최소화하여 구현했습니다.
+ * 다만 synchronized 내부에서 I/O를 기다리는 동안 가상 스레드가 carrier 스레드를 점유(pinning)하므로 가상 스레드 모드에는 적합하지 않습니다.
  *
  */
 @RequiredArgsConstructor
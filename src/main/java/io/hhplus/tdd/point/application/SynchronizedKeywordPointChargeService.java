@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * synchronized keyword를 사용하여 구현한 포인트 충전 서비스입니다.
  * 임계 구역 외의 코드까지 잠금 범위에 포함되어, 실행 시간이 불필요하게 늘어나는 문제가 있습니다.
+ * 또한 synchronized 내부에서 I/O를 기다리는 동안 가상 스레드가 carrier 스레드를 점유(pinning)하므로 가상 스레드 모드에는 적합하지 않습니다.
  */
 @RequiredArgsConstructor
 public class SynchronizedKeywordPointChargeService implements PointChargeService {
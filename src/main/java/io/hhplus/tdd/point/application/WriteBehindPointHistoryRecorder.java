@@ -0,0 +1,204 @@
+package io.hhplus.tdd.point.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 내역을 큐에 넣고 바로 반환한 뒤, 하나의 스레드가 큐에 들어온 순서대로 최대 batchSize건씩 모아 기록합니다.
+ * 요청한 스레드는 잔액 변경이 끝나면 내역 기록(최대 300ms)을 기다리지 않고 바로 응답할 수 있습니다.
+ * - 모은 내역은 ConcurrentPointHistoryTable.insertAll로 한 번에 기록하므로, 기록 지연을 내역마다가 아니라 묶음마다 한 번만 기다립니다.
+ * - record()는 회원의 잠금을 잡은 상태에서 호출되므로, 큐가 가득 차도 공간이 생길 때까지 무한히 기다리지 않습니다.
+ *   offerTimeoutMillis 동안 공간이 생기지 않으면 요청한 스레드에서 바로 기록(fallback)하며, 이 경우 같은 회원의 내역 id가
+ *   잔액을 변경한 순서와 다를 수 있습니다. 바로 기록한 횟수는 지표(point.history.fallback)로 제공합니다.
+ * - close() 시점에 큐에 남아 있는 내역을 모두 기록한 뒤 종료합니다.
+ *   close()는 이미 record()에 들어온 요청이 큐에 넣기를 마칠 때까지 기다린 뒤 writer를 멈추므로, 종료 중에 받은 내역도 유실되지 않습니다.
+ * - 큐에 쌓인 내역 수(depth)와 가장 오래 대기 중인 내역의 대기 시간(lag), 내역 묶음 하나를 기록하는 시간(insert)을 지표로 제공합니다.
+ */
+@Slf4j
+public class WriteBehindPointHistoryRecorder implements PointHistoryRecorder, MeterBinder, AutoCloseable {
+	private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 100L;
+
+	private final ConcurrentPointHistoryTable pointHistoryTable;
+	private final BlockingQueue<PendingPointHistory> queue;
+	private final int batchSize;
+	private final long offerTimeoutNanos;
+	private final LongAdder fallbackCount = new LongAdder();
+	private final Thread writer;
+	private final AtomicInteger inFlightCount = new AtomicInteger();
+	private volatile boolean closed = false;
+	private volatile boolean draining = false;
+	private volatile Timer insertTimer;
+
+	/**
+	 * 큐가 가득 차면 최대 100ms 동안 공간이 생기기를 기다립니다.
+	 */
+	public WriteBehindPointHistoryRecorder(ConcurrentPointHistoryTable pointHistoryTable, int capacity,
+		int batchSize) {
+		this(pointHistoryTable, capacity, batchSize, DEFAULT_OFFER_TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * @param offerTimeoutMillis 큐가 가득 찼을 때 공간이 생기기를 기다리는 최대 시간이며, 지나면 요청한 스레드에서 바로 기록합니다.
+	 */
+	public WriteBehindPointHistoryRecorder(ConcurrentPointHistoryTable pointHistoryTable, int capacity,
+		int batchSize, long offerTimeoutMillis) {
+		if (capacity < 1 || batchSize < 1) {
+			throw new IllegalArgumentException(
+				"큐 크기와 batch 크기는 1 이상이어야 합니다. capacity = " + capacity + ", batchSize = " + batchSize);
+		}
+		this.pointHistoryTable = pointHistoryTable;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, offerTimeoutMillis));
+		this.writer = new Thread(this::drain, "point-history-writer");
+		this.writer.start();
+	}
+
+	@Override
+	public void record(long userId, long amount, TransactionType type, long updateMillis) {
+		// closed를 확인하기 전에 inFlightCount를 올리므로, close()는 확인을 통과한 요청을 반드시 기다립니다.
+		inFlightCount.incrementAndGet();
+		try {
+			if (closed) {
+				throw new RejectedExecutionException("포인트 내역을 더 이상 받을 수 없습니다.");
+			}
+			enqueue(new PendingPointHistory(new ConcurrentPointHistoryTable.NewPointHistory(userId, amount, type,
+				updateMillis), System.nanoTime()));
+		} finally {
+			inFlightCount.decrementAndGet();
+		}
+	}
+
+	@Override
+	public boolean isAsynchronous() {
+		return true;
+	}
+
+	/**
+	 * 큐가 가득 차서 요청한 스레드에서 바로 기록한 횟수입니다.
+	 */
+	public long fallbackCount() {
+		return fallbackCount.sum();
+	}
+
+	public int depth() {
+		return queue.size();
+	}
+
+	/**
+	 * 가장 오래 대기 중인 내역이 큐에 들어온 뒤 지난 시간(ms)입니다.
+	 */
+	public long lagMillis() {
+		PendingPointHistory oldest = queue.peek();
+		if (oldest == null) {
+			return 0L;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedNanos());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("point.history.queue.depth", this, WriteBehindPointHistoryRecorder::depth)
+			.description("기록 대기 중인 포인트 내역 수")
+			.register(registry);
+		Gauge.builder("point.history.queue.lag", this, WriteBehindPointHistoryRecorder::lagMillis)
+			.description("가장 오래 대기 중인 포인트 내역의 대기 시간")
+			.baseUnit("milliseconds")
+			.register(registry);
+		FunctionCounter.builder("point.history.fallback", this, WriteBehindPointHistoryRecorder::fallbackCount)
+			.description("큐가 가득 차서 요청한 스레드에서 바로 기록한 포인트 내역 수")
+			.register(registry);
+		this.insertTimer = Timer.builder("point.history.insert")
+			.description("포인트 내역 묶음 하나를 기록하는 시간")
+			.publishPercentileHistogram()
+			.register(registry);
+	}
+
+	/**
+	 * 새로운 내역을 받지 않고, 큐에 남아 있는 내역을 모두 기록한 뒤 종료합니다.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		// 큐가 가득 차서 공간을 기다리는 요청도 writer가 공간을 만들어야 빨리 끝나므로, writer는 아직 멈추지 않습니다.
+		while (inFlightCount.get() > 0) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+		}
+		draining = true;
+		writer.interrupt();
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() {
+		final List<PendingPointHistory> batch = new ArrayList<>(batchSize);
+		while (!draining || !queue.isEmpty()) {
+			try {
+				batch.add(queue.take());
+			} catch (InterruptedException e) {
+				// close()가 호출되면 깨어나서 남은 내역을 비웁니다.
+				continue;
+			}
+			queue.drainTo(batch, batchSize - 1);
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	private void enqueue(PendingPointHistory pendingPointHistory) {
+		try {
+			if (queue.offer(pendingPointHistory, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			// 잔액은 이미 변경되었으므로 인터럽트가 발생해도 내역은 반드시 기록합니다.
+			Thread.currentThread().interrupt();
+		}
+		fallbackCount.increment();
+		final ConcurrentPointHistoryTable.NewPointHistory newPointHistory = pendingPointHistory.newPointHistory();
+		pointHistoryTable.insert(newPointHistory.userId(), newPointHistory.amount(), newPointHistory.type(),
+			newPointHistory.updateMillis());
+	}
+
+	private void write(List<PendingPointHistory> batch) {
+		final List<ConcurrentPointHistoryTable.NewPointHistory> newPointHistories = new ArrayList<>(batch.size());
+		for (PendingPointHistory pendingPointHistory : batch) {
+			newPointHistories.add(pendingPointHistory.newPointHistory());
+		}
+		try {
+			final long startNanos = System.nanoTime();
+			pointHistoryTable.insertAll(newPointHistories);
+			final Timer timer = insertTimer;
+			if (timer != null) {
+				timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			}
+		} catch (RuntimeException e) {
+			log.error("포인트 내역 기록 중 에러가 발생했습니다. count = {}", batch.size(), e);
+		}
+	}
+
+	private record PendingPointHistory(
+		ConcurrentPointHistoryTable.NewPointHistory newPointHistory,
+		long enqueuedNanos
+	) {
+	}
+}
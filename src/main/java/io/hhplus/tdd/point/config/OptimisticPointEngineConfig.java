@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.point.application.OptimisticPointChargeService;
+import io.hhplus.tdd.point.application.OptimisticPointMutationExecutor;
+import io.hhplus.tdd.point.application.OptimisticPointUseService;
+import io.hhplus.tdd.point.application.PointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * point.engine.type=optimistic 일 때 ReentrantLock 기반 서비스 대신 compare-and-set 기반 서비스를 등록합니다.
+ * UserPointTableStore는 조건부 저장을 잠금으로 흉내 내어 잠금 없이 저장하는 insertOrUpdate와 원자적이지 않으므로,
+ * point.store.type=primitive 또는 mapped와 함께 사용해야 하며 table 저장소와 함께 설정하면 시작하지 않습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointEngineProperties.class)
+@ConditionalOnProperty(prefix = "point.engine", name = "type", havingValue = "optimistic")
+public class OptimisticPointEngineConfig {
+
+	@Bean
+	public OptimisticPointMutationExecutor optimisticPointMutationExecutor(UserPointStore userPointStore,
+		PointHistoryRecorder pointHistoryRecorder, PointTransactionLog pointTransactionLog,
+		PointPolicyResolver pointPolicyResolver, PointSpendLimiter pointSpendLimiter,
+		PointEngineProperties pointEngineProperties) {
+		if (userPointStore instanceof UserPointTableStore) {
+			throw new IllegalStateException(
+				"point.engine.type=optimistic은 point.store.type=primitive 또는 mapped와 함께 사용해야 합니다.");
+		}
+		return new OptimisticPointMutationExecutor(userPointStore, pointHistoryRecorder, pointTransactionLog,
+			pointPolicyResolver, pointSpendLimiter, pointEngineProperties.resolveMaxAttempts(),
+			pointEngineProperties.resolveInitialBackoffNanos(), pointEngineProperties.resolveMaxBackoffNanos());
+	}
+
+	@Bean
+	public OptimisticPointChargeService optimisticPointChargeService(
+		OptimisticPointMutationExecutor optimisticPointMutationExecutor) {
+		return new OptimisticPointChargeService(optimisticPointMutationExecutor);
+	}
+
+	@Bean
+	public OptimisticPointUseService optimisticPointUseService(
+		OptimisticPointMutationExecutor optimisticPointMutationExecutor) {
+		return new OptimisticPointUseService(optimisticPointMutationExecutor);
+	}
+}
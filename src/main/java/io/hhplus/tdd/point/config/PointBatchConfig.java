@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.hhplus.tdd.point.application.PointBatchService;
+import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointUseService;
+
+@Configuration
+@EnableConfigurationProperties(PointBatchProperties.class)
+public class PointBatchConfig {
+
+	/**
+	 * spring.threads.virtual.enabled=true 이면 일괄 처리 스레드도 가상 스레드로 생성합니다.
+	 * 종료 시 close()가 호출되어 처리 중인 요청을 마친 뒤 스레드를 정리합니다.
+	 */
+	@Bean(destroyMethod = "close")
+	public PointBatchService pointBatchService(PointChargeService pointChargeService,
+		PointUseService pointUseService, PointBatchProperties pointBatchProperties, Environment environment) {
+		ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+			? Thread.ofVirtual().name("point-batch-", 0).factory()
+			: Thread.ofPlatform().name("point-batch-", 0).factory();
+		return new PointBatchService(pointChargeService, pointUseService, pointBatchProperties.resolveParallelism(),
+			pointBatchProperties.resolveMaxItems(), threadFactory);
+	}
+}
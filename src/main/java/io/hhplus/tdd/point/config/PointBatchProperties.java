@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 일괄 충전/사용 설정입니다.
+ * - parallelism : 회원별 묶음을 동시에 처리할 스레드 수이며, 0 이하이면 CPU 코어 수를 사용합니다.
+ * - maxItems : 한 번에 요청할 수 있는 최대 건수이며, 0 이하이면 10,000건을 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+	int parallelism,
+	int maxItems
+) {
+	private static final int DEFAULT_MAX_ITEMS = 10_000;
+
+	public int resolveParallelism() {
+		return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+	}
+
+	public int resolveMaxItems() {
+		return maxItems > 0 ? maxItems : DEFAULT_MAX_ITEMS;
+	}
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 충전/사용 엔진 설정입니다.
+ * - type : reentrant-lock(기본값), sharded 또는 optimistic
+ * - shards : sharded 엔진의 shard 개수이며, 0 이하이면 CPU 코어 수를 사용합니다.
+ * - maxBatchSize : sharded 엔진이 한 번에 묶어 처리할 최대 요청 수이며, 1 이하이면 요청을 하나씩 처리합니다.
+ * - maxAttempts : optimistic 엔진이 충돌 시 재시도를 포함하여 시도할 최대 횟수이며, 0 이하이면 16번을 사용합니다.
+ * - initialBackoffMicros : optimistic 엔진이 첫 번째 충돌 후 대기하는 시간의 상한이며, 0 이하이면 1µs를 사용합니다.
+ * - maxBackoffMicros : optimistic 엔진이 충돌할 때마다 두 배로 늘리는 대기 시간 상한의 최댓값이며, 0 이하이면 1ms를 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.engine")
+public record PointEngineProperties(
+	String type,
+	int shards,
+	int maxBatchSize,
+	int maxAttempts,
+	long initialBackoffMicros,
+	long maxBackoffMicros
+) {
+	private static final int DEFAULT_MAX_ATTEMPTS = 16;
+	private static final long DEFAULT_INITIAL_BACKOFF_MICROS = 1L;
+	private static final long DEFAULT_MAX_BACKOFF_MICROS = 1_000L;
+
+	public int resolveShardCount() {
+		return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+	}
+
+	public int resolveMaxBatchSize() {
+		return Math.max(maxBatchSize, 1);
+	}
+
+	public int resolveMaxAttempts() {
+		return maxAttempts > 0 ? maxAttempts : DEFAULT_MAX_ATTEMPTS;
+	}
+
+	public long resolveInitialBackoffNanos() {
+		return (initialBackoffMicros > 0 ? initialBackoffMicros : DEFAULT_INITIAL_BACKOFF_MICROS) * 1_000L;
+	}
+
+	public long resolveMaxBackoffNanos() {
+		final long maxBackoffNanos = (maxBackoffMicros > 0 ? maxBackoffMicros : DEFAULT_MAX_BACKOFF_MICROS) * 1_000L;
+		return Math.max(maxBackoffNanos, resolveInitialBackoffNanos());
+	}
+}
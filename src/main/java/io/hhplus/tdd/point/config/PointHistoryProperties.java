@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 내역 기록 설정입니다.
+ * - writeBehind : true이면 내역을 큐에 넣고 바로 응답한 뒤 별도의 스레드에서 기록합니다.
+ *   내역 조회가 잔액 변경보다 늦게 반영되므로, 명시적으로 켠 경우에만 사용하며 기본값은 false입니다.
+ * - queueCapacity : write-behind 큐의 최대 크기이며, 0 이하이면 10,000을 사용합니다.
+ * - batchSize : write-behind 스레드가 한 번에 꺼내 기록할 최대 내역 수이며, 0 이하이면 100을 사용합니다.
+ * - offerTimeoutMillis : 큐가 가득 찼을 때 공간이 생기기를 기다리는 최대 시간이며, 지나면 요청한 스레드에서 바로 기록합니다.
+ *   0 이하이면 100ms를 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.history")
+public record PointHistoryProperties(
+	boolean writeBehind,
+	int queueCapacity,
+	int batchSize,
+	long offerTimeoutMillis
+) {
+	private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+	private static final int DEFAULT_BATCH_SIZE = 100;
+	private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 100L;
+
+	public int resolveQueueCapacity() {
+		return queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+	}
+
+	public int resolveBatchSize() {
+		return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	public long resolveOfferTimeoutMillis() {
+		return offerTimeoutMillis > 0 ? offerTimeoutMillis : DEFAULT_OFFER_TIMEOUT_MILLIS;
+	}
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.application.DirectPointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointHistoryRecorder;
+import io.hhplus.tdd.point.application.WriteBehindPointHistoryRecorder;
+
+@Configuration
+@EnableConfigurationProperties(PointHistoryProperties.class)
+public class PointHistoryRecorderConfig {
+
+	/**
+	 * 내역 조회가 잔액 변경보다 늦게 반영되므로, point.history.write-behind=true로 명시한 경우에만 등록합니다.
+	 * 묶음으로 기록하고 요청한 스레드에서도 바로 기록할 수 있어야 하므로, 동시에 기록해도 안전한 ConcurrentPointHistoryTable을 주입받습니다.
+	 * 종료 시 close()가 호출되어 큐에 남은 내역을 모두 기록합니다.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "point.history", name = "write-behind", havingValue = "true")
+	public WriteBehindPointHistoryRecorder writeBehindPointHistoryRecorder(
+		ConcurrentPointHistoryTable pointHistoryTable, PointHistoryProperties pointHistoryProperties) {
+		return new WriteBehindPointHistoryRecorder(pointHistoryTable, pointHistoryProperties.resolveQueueCapacity(),
+			pointHistoryProperties.resolveBatchSize(), pointHistoryProperties.resolveOfferTimeoutMillis());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "point.history", name = "write-behind", havingValue = "false",
+		matchIfMissing = true)
+	public PointHistoryRecorder directPointHistoryRecorder(PointHistoryTable pointHistoryTable) {
+		return new DirectPointHistoryRecorder(pointHistoryTable);
+	}
+}
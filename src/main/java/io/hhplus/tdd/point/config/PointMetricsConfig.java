@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.point.application.MicrometerPointStageTimer;
+import io.hhplus.tdd.point.application.PointStageTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PointMetricsConfig {
+
+	/**
+	 * 충전/사용의 단계별 소요 시간을 point.stage Timer에 기록하며, /actuator/prometheus로 노출됩니다.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public PointStageTimer micrometerPointStageTimer(MeterRegistry meterRegistry) {
+		return new MicrometerPointStageTimer(meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "false")
+	public PointStageTimer noOpPointStageTimer() {
+		return PointStageTimer.NO_OP;
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.point.domain.policy.PointPolicyRegistry;
+import io.hhplus.tdd.point.presentation.PointPolicyEndpoint;
+
+@Configuration
+@EnableConfigurationProperties(PointPolicyProperties.class)
+public class PointPolicyConfig {
+
+	/**
+	 * 충전/사용 서비스에는 PointPolicyResolver로 주입됩니다.
+	 */
+	@Bean
+	public PointPolicyRegistry pointPolicyRegistry(PointPolicyProperties pointPolicyProperties) {
+		PointPolicyRegistry pointPolicyRegistry = new PointPolicyRegistry(pointPolicyProperties.resolveDefaultTier(),
+			pointPolicyProperties.resolveTierToLimits());
+		pointPolicyProperties.resolveMembers().forEach((tier, userIds) ->
+			userIds.forEach(userId -> pointPolicyRegistry.assignTier(userId, tier)));
+		return pointPolicyRegistry;
+	}
+
+	@Bean
+	public PointPolicyEndpoint pointPolicyEndpoint(PointPolicyRegistry pointPolicyRegistry) {
+		return new PointPolicyEndpoint(pointPolicyRegistry);
+	}
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+
+/**
+ * 등급별 포인트 한도 설정입니다. 시작할 때 한 번 읽으며, 실행 중에는 /actuator/pointpolicy로 바꿉니다.
+ * - defaultTier : 등급이 지정되지 않은 회원에게 적용할 등급이며, 비어 있으면 default를 사용합니다.
+ * - tiers : 등급별 한도이며, 0 이하인 한도는 기본 한도(보유 1,000만, 1회 충전 100만, 1회 사용 100만)를 사용합니다.
+ * - members : 등급별 회원 ID 목록
+ */
+@ConfigurationProperties(prefix = "point.policy")
+public record PointPolicyProperties(
+	String defaultTier,
+	Map<String, Tier> tiers,
+	Map<String, List<Long>> members
+) {
+
+	public String resolveDefaultTier() {
+		return defaultTier == null || defaultTier.isBlank() ? PointPolicy.DEFAULT_TIER : defaultTier;
+	}
+
+	public Map<String, PointPolicy.Limits> resolveTierToLimits() {
+		final Map<String, PointPolicy.Limits> tierToLimits = new HashMap<>();
+		if (tiers != null) {
+			tiers.forEach((tier, limits) -> tierToLimits.put(tier, limits.toLimits()));
+		}
+		return tierToLimits;
+	}
+
+	public Map<String, List<Long>> resolveMembers() {
+		return members == null ? Map.of() : members;
+	}
+
+	public record Tier(
+		long maximumHoldablePoint,
+		long maximumChargeablePointPerOnce,
+		long maximumUsablePoint
+	) {
+		PointPolicy.Limits toLimits() {
+			final PointPolicy.Limits defaults = PointPolicy.Limits.DEFAULT;
+			return new PointPolicy.Limits(
+				maximumHoldablePoint > 0 ? maximumHoldablePoint : defaults.maximumHoldablePoint(),
+				maximumChargeablePointPerOnce > 0 ? maximumChargeablePointPerOnce
+					: defaults.maximumChargeablePointPerOnce(),
+				maximumUsablePoint > 0 ? maximumUsablePoint : defaults.maximumUsablePoint());
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.RollingWindowPointSpendLimiter;
+
+@Configuration
+@EnableConfigurationProperties(PointSpendLimitProperties.class)
+public class PointSpendLimitConfig {
+
+	/**
+	 * 하루/최근 1시간 한도가 모두 0 이하이면 회원별 기록을 만들지 않도록 NO_OP을 사용합니다.
+	 */
+	@Bean
+	public PointSpendLimiter pointSpendLimiter(PointSpendLimitProperties pointSpendLimitProperties) {
+		if (!pointSpendLimitProperties.enabled()) {
+			return PointSpendLimiter.NO_OP;
+		}
+		return new RollingWindowPointSpendLimiter(pointSpendLimitProperties.dailyLimit(),
+			pointSpendLimitProperties.hourlyLimit(), pointSpendLimitProperties.resolveHourlyBuckets(),
+			pointSpendLimitProperties.resolveZoneOffset(), pointSpendLimitProperties.resolveMaximumUsers());
+	}
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.config;
+
+import java.time.ZoneOffset;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원별 포인트 사용 한도 설정입니다.
+ * - dailyLimit : 하루에 사용할 수 있는 포인트이며, 0 이하이면 제한하지 않습니다.
+ * - hourlyLimit : 최근 1시간 동안 사용할 수 있는 포인트이며, 0 이하이면 제한하지 않습니다.
+ * - hourlyBuckets : 1시간을 나누는 구간 수이며, 0 이하이면 12(5분 단위)를 사용합니다.
+ * - zoneOffset : 하루가 바뀌는 시각의 기준이며, 비어 있으면 +09:00을 사용합니다.
+ * - maximumUsers : 사용 기록을 보관할 최대 회원 수이며, 0 이하이면 1,000,000을 사용합니다.
+ *   도달하면 기록이 없는 회원의 사용을 429로 거절하므로, 하루 동안 포인트를 사용하는 회원 수보다 크게 설정합니다.
+ */
+@ConfigurationProperties(prefix = "point.spend-limit")
+public record PointSpendLimitProperties(
+	long dailyLimit,
+	long hourlyLimit,
+	int hourlyBuckets,
+	String zoneOffset,
+	long maximumUsers
+) {
+	private static final int DEFAULT_HOURLY_BUCKETS = 12;
+	private static final ZoneOffset DEFAULT_ZONE_OFFSET = ZoneOffset.ofHours(9);
+	private static final long DEFAULT_MAXIMUM_USERS = 1_000_000L;
+
+	public boolean enabled() {
+		return dailyLimit > 0 || hourlyLimit > 0;
+	}
+
+	public int resolveHourlyBuckets() {
+		return hourlyBuckets > 0 ? hourlyBuckets : DEFAULT_HOURLY_BUCKETS;
+	}
+
+	public ZoneOffset resolveZoneOffset() {
+		return zoneOffset == null || zoneOffset.isBlank() ? DEFAULT_ZONE_OFFSET : ZoneOffset.of(zoneOffset);
+	}
+
+	public long resolveMaximumUsers() {
+		return maximumUsers > 0 ? maximumUsers : DEFAULT_MAXIMUM_USERS;
+	}
+}
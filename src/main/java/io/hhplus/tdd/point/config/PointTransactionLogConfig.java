@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.database.FilePointTransactionLog;
+import io.hhplus.tdd.database.PointBalanceSnapshotter;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PointTransactionLogProperties.class)
+public class PointTransactionLogConfig {
+
+	/**
+	 * 종료 시 close()가 호출되어 기록된 내역을 모두 fsync합니다.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "point.wal", name = "enabled", havingValue = "true")
+	public FilePointTransactionLog filePointTransactionLog(
+		PointTransactionLogProperties pointTransactionLogProperties) {
+		return new FilePointTransactionLog(pointTransactionLogProperties.resolveDirectory(),
+			pointTransactionLogProperties.resolveFsync(), pointTransactionLogProperties.resolveGroupCommitMillis(),
+			pointTransactionLogProperties.resolveSegmentBytes());
+	}
+
+	/**
+	 * 가장 최근 snapshot과 그 이후의 로그로 잔액을 복구합니다.
+	 * singleton bean을 모두 생성한 뒤에 웹 서버가 요청을 받기 시작하므로, 복구가 끝나기 전에 잔액이 변경되지 않습니다.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "point.wal", name = "enabled", havingValue = "true")
+	public PointBalanceSnapshotter pointBalanceSnapshotter(FilePointTransactionLog filePointTransactionLog,
+		PointTransactionLogProperties pointTransactionLogProperties, UserPointStore userPointStore) {
+		PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(filePointTransactionLog,
+			pointTransactionLogProperties.resolveSnapshotDirectory(),
+			pointTransactionLogProperties.snapshotIntervalMillis());
+		final long startNanos = System.nanoTime();
+		final int userCount = pointBalanceSnapshotter.rebuildBalances(userPointStore);
+		log.info("포인트 로그로 잔액을 복구했습니다. 내역 = {}건, 회원 = {}명, 소요 시간 = {}ms",
+			filePointTransactionLog.writtenSequence(), userCount, (System.nanoTime() - startNanos) / 1_000_000);
+		return pointBalanceSnapshotter;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "point.wal", name = "enabled", havingValue = "false", matchIfMissing = true)
+	public PointTransactionLog noOpPointTransactionLog() {
+		return PointTransactionLog.NO_OP;
+	}
+}
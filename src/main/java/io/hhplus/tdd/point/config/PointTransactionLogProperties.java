@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.hhplus.tdd.database.FsyncPolicy;
+
+/**
+ * 포인트 충전/사용 로그(write-ahead log) 설정입니다.
+ * - enabled : true이면 잔액을 변경하기 전에 로그에 기록하고, 시작할 때 로그를 다시 읽어 잔액을 복구합니다.
+ * - directory : segment 파일을 저장할 디렉터리이며, 비어 있으면 data/point-log를 사용합니다.
+ * - fsync : every-write, group(기본값) 또는 os
+ * - groupCommitMillis : group 정책에서 fsync하는 주기이며, 0 이하이면 5ms를 사용합니다.
+ * - segmentBytes : segment 파일 하나의 최대 크기이며, 0 이하이면 64MB를 사용합니다.
+ * - snapshotDirectory : 잔액 snapshot을 저장할 디렉터리이며, 비어 있으면 data/point-snapshot을 사용합니다.
+ * - snapshotIntervalMillis : 잔액 snapshot을 만드는 주기이며, 0 이하이면 주기적으로 만들지 않습니다.
+ *   snapshot에는 rolling이 끝난 segment까지만 포함되므로, segment 크기가 작을수록 시작할 때 다시 적용할 내역이 줄어듭니다.
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record PointTransactionLogProperties(
+	boolean enabled,
+	String directory,
+	FsyncPolicy fsync,
+	long groupCommitMillis,
+	long segmentBytes,
+	String snapshotDirectory,
+	long snapshotIntervalMillis
+) {
+	private static final String DEFAULT_DIRECTORY = "data/point-log";
+	private static final long DEFAULT_GROUP_COMMIT_MILLIS = 5L;
+	private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+	private static final String DEFAULT_SNAPSHOT_DIRECTORY = "data/point-snapshot";
+
+	public Path resolveDirectory() {
+		return Path.of(directory == null || directory.isBlank() ? DEFAULT_DIRECTORY : directory);
+	}
+
+	public FsyncPolicy resolveFsync() {
+		return fsync == null ? FsyncPolicy.GROUP : fsync;
+	}
+
+	public long resolveGroupCommitMillis() {
+		return groupCommitMillis > 0 ? groupCommitMillis : DEFAULT_GROUP_COMMIT_MILLIS;
+	}
+
+	public long resolveSegmentBytes() {
+		return segmentBytes > 0 ? segmentBytes : DEFAULT_SEGMENT_BYTES;
+	}
+
+	public Path resolveSnapshotDirectory() {
+		return Path.of(snapshotDirectory == null || snapshotDirectory.isBlank()
+			? DEFAULT_SNAPSHOT_DIRECTORY
+			: snapshotDirectory);
+	}
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.application.PointHistoryRecorder;
+import io.hhplus.tdd.point.application.PointSpendLimiter;
+import io.hhplus.tdd.point.application.ShardedPointChargeService;
+import io.hhplus.tdd.point.application.ShardedPointMutationExecutor;
+import io.hhplus.tdd.point.application.ShardedPointUseService;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+/**
+ * point.engine.type=sharded 일 때 ReentrantLock 기반 서비스 대신 shard 기반 서비스를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointEngineProperties.class)
+@ConditionalOnProperty(prefix = "point.engine", name = "type", havingValue = "sharded")
+public class ShardedPointEngineConfig {
+
+	/**
+	 * spring.threads.virtual.enabled=true 이면 shard 스레드도 가상 스레드로 생성합니다.
+	 */
+	@Bean(destroyMethod = "close")
+	public ShardedPointMutationExecutor shardedPointMutationExecutor(UserPointStore userPointStore,
+		PointHistoryRecorder pointHistoryRecorder, PointTransactionLog pointTransactionLog,
+		PointPolicyResolver pointPolicyResolver, PointSpendLimiter pointSpendLimiter,
+		PointEngineProperties pointEngineProperties, Environment environment) {
+		ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+			? Thread.ofVirtual().factory()
+			: Thread.ofPlatform().factory();
+		return new ShardedPointMutationExecutor(userPointStore, pointHistoryRecorder, pointTransactionLog,
+			pointPolicyResolver, pointSpendLimiter, pointEngineProperties.resolveShardCount(),
+			pointEngineProperties.resolveMaxBatchSize(), threadFactory);
+	}
+
+	@Bean
+	public ShardedPointChargeService shardedPointChargeService(
+		ShardedPointMutationExecutor shardedPointMutationExecutor) {
+		return new ShardedPointChargeService(shardedPointMutationExecutor);
+	}
+
+	@Bean
+	public ShardedPointUseService shardedPointUseService(ShardedPointMutationExecutor shardedPointMutationExecutor) {
+		return new ShardedPointUseService(shardedPointMutationExecutor);
+	}
+}
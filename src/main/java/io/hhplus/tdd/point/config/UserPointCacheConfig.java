@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.hhplus.tdd.database.CachedUserPointTable;
+
+@Configuration
+@EnableConfigurationProperties(UserPointCacheProperties.class)
+public class UserPointCacheConfig {
+
+	/**
+	 * UserPointTable을 주입받는 모든 곳에서 캐시를 거치도록 우선 순위를 높였습니다.
+	 */
+	@Bean
+	@Primary
+	@ConditionalOnProperty(prefix = "point.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public CachedUserPointTable cachedUserPointTable(UserPointCacheProperties userPointCacheProperties) {
+		return new CachedUserPointTable(userPointCacheProperties.resolveMaximumSize());
+	}
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액 캐시 설정입니다.
+ * - enabled : true이면 UserPointTable 앞에 잔액 캐시를 둡니다.
+ * - maximumSize : 캐시에 남길 최대 회원 수이며, 0 이하이면 100,000명을 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+	boolean enabled,
+	long maximumSize
+) {
+	private static final long DEFAULT_MAXIMUM_SIZE = 100_000L;
+
+	public long resolveMaximumSize() {
+		return maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+	}
+}
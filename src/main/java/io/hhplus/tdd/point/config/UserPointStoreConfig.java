@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.database.MappedUserPointStore;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+
+@Configuration
+@EnableConfigurationProperties(UserPointStoreProperties.class)
+public class UserPointStoreConfig {
+
+	/**
+	 * 잔액 캐시를 사용하면 CachedUserPointTable이 주입됩니다.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "table", matchIfMissing = true)
+	public UserPointStore userPointTableStore(UserPointTable userPointTable) {
+		return new UserPointTableStore(userPointTable);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "primitive")
+	public UserPointStore primitiveUserPointStore(UserPointStoreProperties userPointStoreProperties) {
+		return new PrimitiveUserPointStore(userPointStoreProperties.resolveSegmentCount(),
+			userPointStoreProperties.resolveExpectedUsers());
+	}
+
+	/**
+	 * 애플리케이션을 종료할 때 페이지 캐시의 잔액을 디스크에 기록하고 파일을 닫습니다.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "mapped")
+	public MappedUserPointStore mappedUserPointStore(UserPointStoreProperties userPointStoreProperties) {
+		return new MappedUserPointStore(userPointStoreProperties.resolvePath(),
+			userPointStoreProperties.resolveCapacity());
+	}
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액 저장소 설정입니다.
+ * - type : table(기본값), primitive 또는 mapped
+ * - segments : primitive 저장소의 segment 개수이며, 0 이하이면 (CPU 코어 수 * 4)개를 사용합니다.
+ * - expectedUsers : primitive 저장소가 배열을 늘리지 않고 저장할 수 있도록 미리 할당할 회원 수
+ * - path : mapped 저장소의 잔액 파일 경로이며, 비어 있으면 data/user-point.dat를 사용합니다.
+ * - capacity : mapped 저장소의 slot 개수이며, 0 이하이면 (expectedUsers * 2)개(최소 2^16개)를 사용합니다.
+ *   파일을 만든 뒤에는 파일에 기록된 slot 개수를 그대로 사용합니다.
+ */
+@ConfigurationProperties(prefix = "point.store")
+public record UserPointStoreProperties(
+	String type,
+	int segments,
+	int expectedUsers,
+	String path,
+	long capacity
+) {
+	private static final int SEGMENTS_PER_CORE = 4;
+	private static final String DEFAULT_PATH = "data/user-point.dat";
+	private static final long MIN_CAPACITY = 1L << 16;
+
+	public int resolveSegmentCount() {
+		return segments > 0 ? segments : Runtime.getRuntime().availableProcessors() * SEGMENTS_PER_CORE;
+	}
+
+	public int resolveExpectedUsers() {
+		return Math.max(expectedUsers, 0);
+	}
+
+	public Path resolvePath() {
+		return Path.of(path == null || path.isBlank() ? DEFAULT_PATH : path);
+	}
+
+	public long resolveCapacity() {
+		return capacity > 0 ? capacity : Math.max(2L * resolveExpectedUsers(), MIN_CAPACITY);
+	}
+}
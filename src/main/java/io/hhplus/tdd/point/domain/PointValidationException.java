@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+
+/**
+ * 포인트 충전/사용 규칙을 위반했을 때 발생하는 예외입니다.
+ * PointErrorCode마다 하나씩 미리 만들어 재사용하며, stack trace를 기록하지 않습니다.
+ */
+public class PointValidationException extends ApplicationException {
+	private final PointErrorCode errorCode;
+
+	public PointValidationException(PointErrorCode errorCode, String message) {
+		super(message, false);
+		this.errorCode = errorCode;
+	}
+
+	public PointErrorCode getErrorCode() {
+		return errorCode;
+	}
+}
@@ -1,8 +1,7 @@
 package io.hhplus.tdd.point.domain;
 
-import java.text.NumberFormat;
-
-import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
 import lombok.Builder;
 
 @Builder
@@ -12,63 +11,60 @@ public record UserPoint(
 	long updateMillis
 ) {
 
-	private static final int MAXIMUM_HOLDABLE_POINT = 10_000_000;
-	private static final int MAXIMUM_CHARGEABLE_POINT_PER_ONCE = 1_000_000;
-	private static final int MINIMUM_CHARGEABLE_POINT_PER_ONCE = 1;
-	private static final int MINIMUM_USABLE_POINT = 1;
-	private static final long MAXIMUM_USABLE_POINT = 1_000_000L;
-
 	public static UserPoint empty(long id) {
 		return new UserPoint(id, 0, System.currentTimeMillis());
 	}
 
+	/**
+	 * 기본 한도(PointPolicy.DEFAULT)로 검증한 뒤 충전합니다.
+	 */
 	public UserPoint charge(long amount, long updateMillis) {
-		validateCharge(amount);
-		return UserPoint
-			.builder()
-			.id(this.id)
-			.point(this.point + amount)
-			.updateMillis(updateMillis)
-			.build();
+		return charge(amount, updateMillis, PointPolicy.DEFAULT);
+	}
+
+	/**
+	 * 검증에 실패하면 등급의 한도로 미리 만들어 둔 PointValidationException을 발생시킵니다.
+	 * 충전에 성공하면 builder 없이 새로운 UserPoint 하나만 생성합니다.
+	 */
+	public UserPoint charge(long amount, long updateMillis, PointPolicy pointPolicy) {
+		final PointErrorCode errorCode = pointPolicy.validateCharge(this.point, amount);
+		if (errorCode != null) {
+			throw pointPolicy.exception(errorCode);
+		}
+		return new UserPoint(this.id, this.point + amount, updateMillis);
 	}
 
+	/**
+	 * 기본 한도(PointPolicy.DEFAULT)로 검증한 뒤 사용합니다.
+	 */
 	public UserPoint use(long amount, long updateMillis) {
-		validateUse(amount);
-		final long newPointBalance = this.point - amount;
-		return UserPoint.builder()
-			.id(this.id)
-			.point(newPointBalance)
-			.updateMillis(updateMillis)
-			.build();
+		return use(amount, updateMillis, PointPolicy.DEFAULT);
 	}
 
-	private void validateUse(long amount) {
-		if (amount > MAXIMUM_USABLE_POINT) {
-			// 큰 숫자를 보기 편하도록 세자리 마다 쉼표를 추가했습니다.
-			// ex. 10000 -> 10,000
-			final String formattedMaximumUsablePoint = NumberFormat.getNumberInstance().format(MAXIMUM_USABLE_POINT);
-			throw new ApplicationException(formattedMaximumUsablePoint + " 포인트를 초과하여 사용할 수 없습니다.");
-		}
-		if (amount < MINIMUM_USABLE_POINT) {
-			throw new ApplicationException("1 포인트 미만으로 포인트를 사용할 수 없습니다.");
+	public UserPoint use(long amount, long updateMillis, PointPolicy pointPolicy) {
+		final PointErrorCode errorCode = pointPolicy.validateUse(this.point, amount);
+		if (errorCode != null) {
+			throw pointPolicy.exception(errorCode);
 		}
+		return new UserPoint(this.id, this.point - amount, updateMillis);
+	}
 
-		final long newPointBalance = this.point - amount;
-		if (newPointBalance < 0) {
-			throw new ApplicationException("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
-		}
+	/**
+	 * 예외를 발생시키지 않고 기본 한도로 충전할 수 있는지 검증합니다.
+	 *
+	 * @return 충전할 수 있으면 null, 충전할 수 없으면 그 이유
+	 */
+	public PointErrorCode validateCharge(long amount) {
+		return PointPolicy.DEFAULT.validateCharge(this.point, amount);
 	}
 
-	private void validateCharge(long amount) {
-		if (amount < MINIMUM_CHARGEABLE_POINT_PER_ONCE) {
-			throw new ApplicationException("1 포인트 이상부터 충전이 가능합니다.");
-		}
-		if (amount > MAXIMUM_CHARGEABLE_POINT_PER_ONCE) {
-			throw new ApplicationException("한 번에 충전할 수 있는 포인트를 초과했습니다.");
-		}
-		if (this.point + amount > MAXIMUM_HOLDABLE_POINT) {
-			throw new ApplicationException("최대 가질 수 있는 포인트를 초과했습니다.");
-		}
+	/**
+	 * 예외를 발생시키지 않고 기본 한도로 사용할 수 있는지 검증합니다.
+	 *
+	 * @return 사용할 수 있으면 null, 사용할 수 없으면 그 이유
+	 */
+	public PointErrorCode validateUse(long amount) {
+		return PointPolicy.DEFAULT.validateUse(this.point, amount);
 	}
 
 }
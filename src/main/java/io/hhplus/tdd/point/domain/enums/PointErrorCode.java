@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.domain.enums;
+
+import io.hhplus.tdd.point.domain.PointValidationException;
+
+/**
+ * 포인트 충전/사용 규칙을 위반한 이유입니다.
+ * 잔액 부족처럼 자주 발생하는 예상된 실패마다 예외와 메시지를 새로 만들지 않도록,
+ * 코드마다 stack trace가 없는 예외를 한 번만 만들어 재사용합니다.
+ */
+public enum PointErrorCode {
+	CHARGE_AMOUNT_TOO_SMALL("1 포인트 이상부터 충전이 가능합니다."),
+	CHARGE_AMOUNT_EXCEEDED("한 번에 충전할 수 있는 포인트를 초과했습니다."),
+	HOLDABLE_POINT_EXCEEDED("최대 가질 수 있는 포인트를 초과했습니다."),
+	USE_AMOUNT_EXCEEDED("1,000,000 포인트를 초과하여 사용할 수 없습니다."),
+	USE_AMOUNT_TOO_SMALL("1 포인트 미만으로 포인트를 사용할 수 없습니다."),
+	INSUFFICIENT_POINT("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다."),
+	DAILY_SPEND_LIMIT_EXCEEDED("하루에 사용할 수 있는 포인트를 초과했습니다."),
+	HOURLY_SPEND_LIMIT_EXCEEDED("1시간 동안 사용할 수 있는 포인트를 초과했습니다.");
+
+	private final String message;
+	private final PointValidationException exception;
+
+	PointErrorCode(String message) {
+		this.message = message;
+		this.exception = new PointValidationException(this, message);
+	}
+
+	public String message() {
+		return message;
+	}
+
+	/**
+	 * 모든 요청이 같은 예외 인스턴스를 공유하므로, 반환된 예외에 cause나 suppressed 예외를 추가하지 않습니다.
+	 */
+	public PointValidationException exception() {
+		return exception;
+	}
+}
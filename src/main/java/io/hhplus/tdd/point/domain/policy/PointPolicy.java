@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.domain.policy;
+
+import java.util.Locale;
+
+import io.hhplus.tdd.point.domain.PointValidationException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+
+/**
+ * 한 등급(tier)의 포인트 충전/사용 한도를 검증할 수 있도록 미리 준비해 둔 불변 객체입니다.
+ * 한도와 함께 거절 사유별 예외를 만들 때 한 번만 생성하므로, 검증할 때는 비교 연산만 실행하고 객체를 생성하지 않습니다.
+ * 한도 값이 메시지에 포함되는 거절 사유(USE_AMOUNT_EXCEEDED)는 등급의 한도로 메시지를 만들고,
+ * 나머지 거절 사유는 PointErrorCode의 예외를 그대로 사용합니다.
+ */
+public final class PointPolicy {
+	private static final long MINIMUM_CHARGEABLE_POINT_PER_ONCE = 1L;
+	private static final long MINIMUM_USABLE_POINT = 1L;
+
+	public static final String DEFAULT_TIER = "default";
+	public static final PointPolicy DEFAULT = new PointPolicy(DEFAULT_TIER, Limits.DEFAULT);
+
+	private final String tier;
+	private final Limits limits;
+	private final PointValidationException[] exceptions;
+
+	public PointPolicy(String tier, Limits limits) {
+		this.tier = tier;
+		this.limits = limits;
+		final PointErrorCode[] errorCodes = PointErrorCode.values();
+		this.exceptions = new PointValidationException[errorCodes.length];
+		for (PointErrorCode errorCode : errorCodes) {
+			exceptions[errorCode.ordinal()] = compile(errorCode, limits);
+		}
+	}
+
+	public String tier() {
+		return tier;
+	}
+
+	public Limits limits() {
+		return limits;
+	}
+
+	/**
+	 * @return 충전할 수 있으면 null, 충전할 수 없으면 그 이유
+	 */
+	public PointErrorCode validateCharge(long point, long amount) {
+		if (amount < MINIMUM_CHARGEABLE_POINT_PER_ONCE) {
+			return PointErrorCode.CHARGE_AMOUNT_TOO_SMALL;
+		}
+		if (amount > limits.maximumChargeablePointPerOnce()) {
+			return PointErrorCode.CHARGE_AMOUNT_EXCEEDED;
+		}
+		if (point + amount > limits.maximumHoldablePoint()) {
+			return PointErrorCode.HOLDABLE_POINT_EXCEEDED;
+		}
+		return null;
+	}
+
+	/**
+	 * @return 사용할 수 있으면 null, 사용할 수 없으면 그 이유
+	 */
+	public PointErrorCode validateUse(long point, long amount) {
+		if (amount > limits.maximumUsablePoint()) {
+			return PointErrorCode.USE_AMOUNT_EXCEEDED;
+		}
+		if (amount < MINIMUM_USABLE_POINT) {
+			return PointErrorCode.USE_AMOUNT_TOO_SMALL;
+		}
+		if (point - amount < 0) {
+			return PointErrorCode.INSUFFICIENT_POINT;
+		}
+		return null;
+	}
+
+	/**
+	 * 이 등급의 한도로 만든 예외를 반환합니다. 모든 요청이 같은 예외 인스턴스를 공유합니다.
+	 */
+	public PointValidationException exception(PointErrorCode errorCode) {
+		return exceptions[errorCode.ordinal()];
+	}
+
+	private static PointValidationException compile(PointErrorCode errorCode, Limits limits) {
+		if (errorCode == PointErrorCode.USE_AMOUNT_EXCEEDED
+			&& limits.maximumUsablePoint() != Limits.DEFAULT.maximumUsablePoint()) {
+			// 큰 숫자를 보기 편하도록 세자리 마다 쉼표를 추가했습니다. ex. 10000 -> 10,000
+			return new PointValidationException(errorCode,
+				String.format(Locale.ROOT, "%,d 포인트를 초과하여 사용할 수 없습니다.", limits.maximumUsablePoint()));
+		}
+		return errorCode.exception();
+	}
+
+	/**
+	 * @param maximumHoldablePoint 최대 보유 포인트
+	 * @param maximumChargeablePointPerOnce 한 번에 충전할 수 있는 최대 포인트
+	 * @param maximumUsablePoint 한 번에 사용할 수 있는 최대 포인트
+	 */
+	public record Limits(
+		long maximumHoldablePoint,
+		long maximumChargeablePointPerOnce,
+		long maximumUsablePoint
+	) {
+		public static final Limits DEFAULT = new Limits(10_000_000L, 1_000_000L, 1_000_000L);
+
+		public Limits {
+			if (maximumHoldablePoint < 1 || maximumChargeablePointPerOnce < 1 || maximumUsablePoint < 1) {
+				throw new IllegalArgumentException("포인트 한도는 1 이상이어야 합니다. maximumHoldablePoint = "
+					+ maximumHoldablePoint + ", maximumChargeablePointPerOnce = " + maximumChargeablePointPerOnce
+					+ ", maximumUsablePoint = " + maximumUsablePoint);
+			}
+		}
+	}
+}
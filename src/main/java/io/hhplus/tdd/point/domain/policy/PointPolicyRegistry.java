@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.domain.policy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 등급별 포인트 한도와 회원의 등급을 관리하며, 실행 중에 재배포 없이 바꿀 수 있습니다.
+ * <p>
+ * 등급별 한도는 PointPolicy로 미리 준비하여 불변 snapshot에 담고, 한도가 바뀌면 새로운 snapshot을 만들어 AtomicReference로 교체합니다.
+ * 충전/사용 요청은 snapshot을 한 번 읽어 사용하므로 잠금을 획득하지 않으며, 교체 도중에도 이전 또는 새로운 한도 중 하나를 온전히 봅니다.
+ * 회원의 등급은 ConcurrentHashMap에 보관하므로 등급을 바꿀 때 snapshot 전체를 복사하지 않습니다.
+ * 등급이 지정되지 않았거나 지정된 등급이 삭제된 회원에게는 기본 등급의 한도를 적용합니다.
+ */
+public class PointPolicyRegistry implements PointPolicyResolver {
+	private final AtomicReference<Snapshot> snapshot;
+	private final Map<Long, String> userIdToTier = new ConcurrentHashMap<>();
+
+	public PointPolicyRegistry(String defaultTier, Map<String, PointPolicy.Limits> tierToLimits) {
+		this.snapshot = new AtomicReference<>(compile(defaultTier, tierToLimits));
+	}
+
+	@Override
+	public PointPolicy resolve(long userId) {
+		final Snapshot current = snapshot.get();
+		if (userIdToTier.isEmpty()) {
+			return current.defaultPolicy();
+		}
+		final String tier = userIdToTier.get(userId);
+		if (tier == null) {
+			return current.defaultPolicy();
+		}
+		return current.tierToPolicy().getOrDefault(tier, current.defaultPolicy());
+	}
+
+	/**
+	 * 등급의 한도를 추가하거나 바꾼 새로운 snapshot으로 교체합니다.
+	 */
+	public void updateTier(String tier, PointPolicy.Limits limits) {
+		snapshot.updateAndGet(current -> {
+			final Map<String, PointPolicy.Limits> tierToLimits = current.tierToLimits();
+			tierToLimits.put(tier, limits);
+			return compile(current.defaultPolicy().tier(), tierToLimits);
+		});
+	}
+
+	/**
+	 * 모든 등급의 한도를 한 번에 교체합니다.
+	 */
+	public void reload(String defaultTier, Map<String, PointPolicy.Limits> tierToLimits) {
+		snapshot.set(compile(defaultTier, tierToLimits));
+	}
+
+	public void assignTier(long userId, String tier) {
+		if (!snapshot.get().tierToPolicy().containsKey(tier)) {
+			throw new IllegalArgumentException("등록되지 않은 등급입니다. tier = " + tier);
+		}
+		userIdToTier.put(userId, tier);
+	}
+
+	/**
+	 * 회원이 tier 등급으로 지정되어 있을 때만 해제합니다.
+	 */
+	public void unassignTier(long userId, String tier) {
+		userIdToTier.remove(userId, tier);
+	}
+
+	public Map<String, PointPolicy> policies() {
+		return snapshot.get().tierToPolicy();
+	}
+
+	private static Snapshot compile(String defaultTier, Map<String, PointPolicy.Limits> tierToLimits) {
+		final Map<String, PointPolicy> tierToPolicy = new HashMap<>();
+		tierToLimits.forEach((tier, limits) -> tierToPolicy.put(tier,
+			PointPolicy.DEFAULT_TIER.equals(tier) && PointPolicy.Limits.DEFAULT.equals(limits)
+				? PointPolicy.DEFAULT
+				: new PointPolicy(tier, limits)));
+		tierToPolicy.putIfAbsent(defaultTier, defaultTier.equals(PointPolicy.DEFAULT_TIER)
+			? PointPolicy.DEFAULT
+			: new PointPolicy(defaultTier, PointPolicy.Limits.DEFAULT));
+		return new Snapshot(Collections.unmodifiableMap(tierToPolicy), tierToPolicy.get(defaultTier));
+	}
+
+	private record Snapshot(
+		Map<String, PointPolicy> tierToPolicy,
+		PointPolicy defaultPolicy
+	) {
+		Map<String, PointPolicy.Limits> tierToLimits() {
+			final Map<String, PointPolicy.Limits> tierToLimits = new HashMap<>();
+			tierToPolicy.forEach((tier, policy) -> tierToLimits.put(tier, policy.limits()));
+			return tierToLimits;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.domain.policy;
+
+/**
+ * 회원에게 적용할 포인트 한도(PointPolicy)를 찾습니다.
+ * PointPolicyResolver의 구현체는 아래와 같습니다.
+ * - DEFAULT : 모든 회원에게 기본 한도를 적용합니다.
+ * - PointPolicyRegistry : 회원의 등급별 한도를 적용하며, 실행 중에 한도와 등급을 바꿀 수 있습니다.
+ */
+public interface PointPolicyResolver {
+	PointPolicyResolver DEFAULT = userId -> PointPolicy.DEFAULT;
+
+	PointPolicy resolve(long userId);
+}
@@ -2,22 +2,35 @@ package io.hhplus.tdd.point.presentation;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import io.hhplus.tdd.global.exception.NotImplementedException;
+import io.hhplus.tdd.global.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.application.PointBatchService;
 import io.hhplus.tdd.point.application.PointChargeService;
+import io.hhplus.tdd.point.application.PointHistoryExportService;
 import io.hhplus.tdd.point.application.PointHistoryReadAllByUserIdService;
 import io.hhplus.tdd.point.application.PointReadByIdService;
+import io.hhplus.tdd.point.application.PointTransferService;
 import io.hhplus.tdd.point.application.PointUseService;
-import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.presentation.request.PointBatchRequest;
 import io.hhplus.tdd.point.presentation.request.PointChargeRequest;
+import io.hhplus.tdd.point.presentation.request.PointTransferRequest;
 import io.hhplus.tdd.point.presentation.request.PointUseRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -25,10 +38,20 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/point")
 @RequiredArgsConstructor
 public class PointController {
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	private static final int DEFAULT_HISTORY_LIMIT = 100;
+
 	private final PointChargeService pointChargeService;
 	private final PointUseService pointUseService;
 	private final PointReadByIdService pointReadByIdService;
 	private final PointHistoryReadAllByUserIdService pointHistoryReadAllByUserIdService;
+	private final PointHistoryExportService pointHistoryExportService;
+	private final PointBatchService pointBatchService;
+	private final IdempotencyCache idempotencyCache;
+	/**
+	 * 포인트 선물은 잠금 기반 엔진(point.engine.type=reentrant-lock)에서만 제공하며, 다른 엔진에서는 501로 응답합니다.
+	 */
+	private final ObjectProvider<PointTransferService> pointTransferServiceProvider;
 
 	/**
 	 * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -43,36 +66,102 @@ public class PointController {
 
 	/**
 	 * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+	 * limit와 beforeId를 모두 보내지 않으면 기존과 같이 전체 내역을 목록으로 응답합니다.
+	 * 둘 중 하나라도 보내면 최신 내역부터 limit건(기본 100건)씩 조회하여 histories와 nextCursor를 응답하며,
+	 * 다음 페이지가 있으면 nextCursor(X-Next-Cursor 헤더와 같은 값)를 beforeId로 전달해 이어서 조회합니다.
 	 */
 	@GetMapping("{id}/histories")
-	@ResponseStatus(HttpStatus.OK)
-	public List<PointHistory> history(
+	public ResponseEntity<?> history(
+		@PathVariable("id") long id,
+		@RequestParam(name = "limit", required = false) Integer limit,
+		@RequestParam(name = "beforeId", required = false) Long beforeId
+	) {
+		if (limit == null && beforeId == null) {
+			return ResponseEntity.ok(pointHistoryReadAllByUserIdService.read(id));
+		}
+		PointHistoryReadAllByUserIdService.Page page = pointHistoryReadAllByUserIdService.read(id, beforeId,
+			limit == null ? DEFAULT_HISTORY_LIMIT : limit);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.nextCursor() != null) {
+			response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+		}
+		return response.body(page);
+	}
+
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역 전체를 NDJSON으로 내려받습니다.
+	 * 응답을 한 번에 만들지 않고 내역을 조회하는 대로 이어서 쓰므로, 내역이 많아도 서버 메모리 사용량이 늘어나지 않습니다.
+	 */
+	@GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportHistory(
 		@PathVariable("id") long id
 	) {
-		return pointHistoryReadAllByUserIdService.read(id);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(outputStream -> pointHistoryExportService.export(id, outputStream));
 	}
 
 	/**
 	 * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+	 * Idempotency-Key 헤더를 보내면, 같은 키로 다시 요청했을 때 다시 충전하지 않고 처음 충전한 결과를 응답합니다.
 	 */
 	@PatchMapping("{id}/charge")
 	@ResponseStatus(HttpStatus.OK)
 	public UserPoint charge(
 		@PathVariable("id") long id,
+		@RequestHeader(name = IdempotencyCache.HEADER, required = false) String idempotencyKey,
 		@RequestBody PointChargeRequest request
 	) {
-		return pointChargeService.execute(request.toCommand(id));
+		if (idempotencyKey == null) {
+			return pointChargeService.execute(request.toCommand(id));
+		}
+		return idempotencyCache.execute(new IdempotencyCache.Key("charge", id, idempotencyKey), request,
+			() -> pointChargeService.execute(request.toCommand(id)));
 	}
 
 	/**
 	 * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+	 * Idempotency-Key 헤더를 보내면, 같은 키로 다시 요청했을 때 다시 사용하지 않고 처음 사용한 결과를 응답합니다.
 	 */
 	@PatchMapping("{id}/use")
 	@ResponseStatus(HttpStatus.OK)
 	public UserPoint use(
 		@PathVariable("id") long id,
+		@RequestHeader(name = IdempotencyCache.HEADER, required = false) String idempotencyKey,
 		@RequestBody PointUseRequest request
 	) {
-		return pointUseService.execute(request.toCommand(id));
+		if (idempotencyKey == null) {
+			return pointUseService.execute(request.toCommand(id));
+		}
+		return idempotencyCache.execute(new IdempotencyCache.Key("use", id, idempotencyKey), request,
+			() -> pointUseService.execute(request.toCommand(id)));
+	}
+
+	/**
+	 * 한 유저의 포인트를 다른 유저에게 선물합니다.
+	 * 보내는 유저의 사용과 받는 유저의 충전이 함께 반영되며, 둘 중 하나라도 검증에 실패하면 두 유저의 포인트 모두 변경되지 않습니다.
+	 */
+	@PostMapping("transfer")
+	@ResponseStatus(HttpStatus.OK)
+	public PointTransferService.Result transfer(
+		@RequestBody PointTransferRequest request
+	) {
+		PointTransferService pointTransferService = pointTransferServiceProvider.getIfAvailable();
+		if (pointTransferService == null) {
+			throw new NotImplementedException("현재 포인트 엔진에서는 포인트 선물을 지원하지 않습니다.");
+		}
+		return pointTransferService.execute(request.toCommand());
+	}
+
+	/**
+	 * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다.
+	 * 같은 유저의 요청은 요청된 순서대로 처리하며, 일부 요청이 실패해도 나머지 요청은 처리하고 요청별 결과를 요청 순서대로 응답합니다.
+	 */
+	@PostMapping("batch")
+	@ResponseStatus(HttpStatus.OK)
+	public List<PointBatchService.ItemResult> batch(
+		@RequestBody PointBatchRequest request
+	) {
+		return pointBatchService.execute(request.toItems());
 	}
 }
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.presentation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import io.hhplus.tdd.point.domain.policy.PointPolicy;
+import io.hhplus.tdd.point.domain.policy.PointPolicyRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재배포 없이 등급별 포인트 한도와 회원의 등급을 바꾸는 관리용 actuator endpoint입니다.
+ * - GET /actuator/pointpolicy : 등급별 한도 조회
+ * - POST /actuator/pointpolicy/{tier} : 등급의 한도 추가/변경
+ * - POST /actuator/pointpolicy/{tier}/{userId} : 회원의 등급 지정
+ * - DELETE /actuator/pointpolicy/{tier}/{userId} : 회원의 등급 해제(기본 등급 적용)
+ * 회원이 직접 호출하면 안 되므로 기본 설정에서는 web으로 노출하지 않습니다.
+ * 사용하려면 management.server.port로 관리용 포트를 분리한 뒤 management.endpoints.web.exposure.include에 pointpolicy를 추가합니다.
+ */
+@Endpoint(id = "pointpolicy")
+@RequiredArgsConstructor
+public class PointPolicyEndpoint {
+	private final PointPolicyRegistry pointPolicyRegistry;
+
+	@ReadOperation
+	public Map<String, PointPolicy.Limits> policies() {
+		final Map<String, PointPolicy.Limits> tierToLimits = new TreeMap<>();
+		pointPolicyRegistry.policies().forEach((tier, pointPolicy) -> tierToLimits.put(tier, pointPolicy.limits()));
+		return tierToLimits;
+	}
+
+	@WriteOperation
+	public Map<String, PointPolicy.Limits> updateTier(@Selector String tier, long maximumHoldablePoint,
+		long maximumChargeablePointPerOnce, long maximumUsablePoint) {
+		pointPolicyRegistry.updateTier(tier,
+			new PointPolicy.Limits(maximumHoldablePoint, maximumChargeablePointPerOnce, maximumUsablePoint));
+		return policies();
+	}
+
+	@WriteOperation
+	public void assignTier(@Selector String tier, @Selector long userId) {
+		pointPolicyRegistry.assignTier(userId, tier);
+	}
+
+	@DeleteOperation
+	public void unassignTier(@Selector String tier, @Selector long userId) {
+		pointPolicyRegistry.unassignTier(userId, tier);
+	}
+}
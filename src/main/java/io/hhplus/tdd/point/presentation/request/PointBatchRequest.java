@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.presentation.request;
+
+import java.util.List;
+
+import io.hhplus.tdd.point.application.PointBatchService;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+public record PointBatchRequest(
+	List<Item> items
+) {
+	public List<PointBatchService.Item> toItems() {
+		return items == null
+			? List.of()
+			: items.stream()
+			.map((item) -> new PointBatchService.Item(item.userId(), item.amount(), item.type()))
+			.toList();
+	}
+
+	public record Item(
+		long userId,
+		long amount,
+		TransactionType type
+	) {
+	}
+}
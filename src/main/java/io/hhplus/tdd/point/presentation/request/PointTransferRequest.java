@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.presentation.request;
+
+import io.hhplus.tdd.point.application.PointTransferService;
+
+public record PointTransferRequest(
+	long senderId,
+	long receiverId,
+	long amount
+) {
+	public PointTransferService.Command toCommand() {
+		return new PointTransferService.Command(
+			senderId,
+			receiverId,
+			amount,
+			System.currentTimeMillis()
+		);
+	}
+}
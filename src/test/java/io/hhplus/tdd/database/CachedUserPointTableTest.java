@@ -0,0 +1,50 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+class CachedUserPointTableTest {
+
+	/**
+	 * [작성 이유]
+	 * 한 번 조회한 잔액은 UserPointTable을 다시 거치지 않고 캐시에서 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 같은_회원을_다시_조회하면_캐시에서_반환한다() {
+		// given
+		final long userId = 123L;
+		CachedUserPointTable userPointTable = new CachedUserPointTable(100L);
+
+		// when
+		userPointTable.selectById(userId);
+		userPointTable.selectById(userId);
+
+		// then
+		assertThat(userPointTable.missCount()).isEqualTo(1L);
+		assertThat(userPointTable.hitCount()).isEqualTo(1L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잔액을 저장하면 캐시도 함께 갱신되어, 이후 조회에서 이전 잔액을 반환하지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 잔액을_저장한_뒤_조회하면_저장된_잔액을_캐시에서_반환한다() {
+		// given
+		final long userId = 123L;
+		CachedUserPointTable userPointTable = new CachedUserPointTable(100L);
+		userPointTable.selectById(userId);
+
+		// when
+		userPointTable.insertOrUpdate(userId, 1000L);
+		UserPoint userPoint = userPointTable.selectById(userId);
+
+		// then
+		assertThat(userPoint.point()).isEqualTo(1000L);
+		assertThat(userPointTable.missCount()).isEqualTo(1L);
+		assertThat(userPointTable.hitCount()).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class ConcurrentPointHistoryTableTest {
+	private static final int THREAD_COUNT = 64;
+	private static final int INSERTS_PER_THREAD = 2_000;
+	private static final int USER_COUNT = 8;
+
+	/**
+	 * [작성 이유]
+	 * 64개 스레드가 동시에 내역을 기록해도 id가 중복되지 않고 1부터 빈틈없이 발급되며,
+	 * 기록한 내역이 하나도 유실되지 않는지 확인하고자 작성했습니다.
+	 * 여러 segment에 걸쳐 기록되도록 segment 크기(2^14)보다 많은 내역을 기록합니다.
+	 */
+	@Test
+	void 스레드_64개가_동시에_기록해도_id가_중복되지_않고_내역이_유실되지_않는다() throws InterruptedException {
+		// given
+		ConcurrentPointHistoryTable pointHistoryTable = new ConcurrentPointHistoryTable(0L);
+
+		// when
+		insertConcurrently(pointHistoryTable);
+
+		// then
+		final long totalCount = (long)THREAD_COUNT * INSERTS_PER_THREAD;
+		final Set<Long> ids = new HashSet<>();
+		for (long userId = 0; userId < USER_COUNT; userId++) {
+			List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(userId);
+			assertThat(pointHistories).hasSize((int)(totalCount / USER_COUNT));
+			pointHistories.forEach(pointHistory -> ids.add(pointHistory.id()));
+		}
+		assertThat(pointHistoryTable.size()).isEqualTo(totalCount);
+		assertThat(ids).hasSize((int)totalCount);
+		assertThat(ids).containsAll(LongStream.rangeClosed(1, totalCount).boxed().toList());
+	}
+
+	/**
+	 * [작성 이유]
+	 * 기본 PointHistoryTable인 IndexedPointHistoryTable도 동시에 기록할 때 회원별 목록에 모든 내역이
+	 * id 내림차순으로 중복 없이 남아 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 스레드_64개가_동시에_기록해도_회원별_목록에_모든_내역이_id_내림차순으로_남아_있다() throws InterruptedException {
+		// given
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+
+		// when
+		insertConcurrently(pointHistoryTable);
+
+		// then
+		final long totalCount = (long)THREAD_COUNT * INSERTS_PER_THREAD;
+		for (long userId = 0; userId < USER_COUNT; userId++) {
+			List<Long> ids = pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId).stream()
+				.map(PointHistory::id)
+				.toList();
+			assertThat(ids).hasSize((int)(totalCount / USER_COUNT));
+			assertThat(ids).isSortedAccordingTo(Comparator.reverseOrder());
+			assertThat(ids).doesNotHaveDuplicates();
+		}
+	}
+
+	private static void insertConcurrently(PointHistoryTable pointHistoryTable) throws InterruptedException {
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch countDownLatch = new CountDownLatch(THREAD_COUNT);
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		IntStream.range(0, THREAD_COUNT)
+			.forEach((thread) -> executorService.execute(() -> {
+				try {
+					startLatch.await();
+					for (int index = 0; index < INSERTS_PER_THREAD; index++) {
+						pointHistoryTable.insert((thread + index) % USER_COUNT, 1000L, TransactionType.CHARGE,
+							System.currentTimeMillis());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		startLatch.countDown();
+		countDownLatch.await();
+		executorService.shutdown();
+	}
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class FilePointTransactionLogTest {
+	private static final long SEGMENT_BYTES = 64L * 1024 * 1024;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * [작성 이유]
+	 * 로그를 닫고 다시 열면 기록했던 충전/사용 내역을 기록된 순서대로 다시 읽을 수 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 로그를_다시_열면_기록했던_내역을_다시_읽을_수_있다() {
+		// given
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.EVERY_WRITE, 0, SEGMENT_BYTES)) {
+			pointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 10_000L, 1L));
+			pointTransactionLog.append(new PointTransactionLog.Entry(2L, TransactionType.CHARGE, 5_000L, 2L));
+			pointTransactionLog.appendAll(List.of(
+				new PointTransactionLog.Entry(1L, TransactionType.USE, 3_000L, 3L),
+				new PointTransactionLog.Entry(2L, TransactionType.USE, 5_000L, 4L)));
+		}
+
+		// when
+		final List<PointTransactionLog.Entry> entries = new ArrayList<>();
+		try (FilePointTransactionLog reopenedPointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.EVERY_WRITE, 0, SEGMENT_BYTES)) {
+			reopenedPointTransactionLog.replay(0, entries::add);
+		}
+
+		// then
+		assertThat(entries).containsExactly(
+			new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 10_000L, 1L),
+			new PointTransactionLog.Entry(2L, TransactionType.CHARGE, 5_000L, 2L),
+			new PointTransactionLog.Entry(1L, TransactionType.USE, 3_000L, 3L),
+			new PointTransactionLog.Entry(2L, TransactionType.USE, 5_000L, 4L));
+	}
+
+	/**
+	 * [작성 이유]
+	 * segment 크기를 넘으면 새로운 segment 파일로 넘어가고, 다시 읽을 때 모든 segment를 기록된 순서대로 읽는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void segment_크기를_넘으면_새로운_segment에_기록하고_기록된_순서대로_다시_읽는다() throws IOException {
+		// given
+		final int recordCount = 100;
+		final long segmentBytes = FilePointTransactionLog.RECORD_SIZE * 8L;
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(directory, FsyncPolicy.OS, 0,
+			segmentBytes)) {
+			for (long index = 0; index < recordCount; index++) {
+				pointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, index, index));
+			}
+		}
+
+		// when
+		final List<Long> amounts = new ArrayList<>();
+		try (FilePointTransactionLog reopenedPointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.OS, 0, segmentBytes)) {
+			reopenedPointTransactionLog.replay(0, entry -> amounts.add(entry.amount()));
+		}
+
+		// then
+		try (Stream<Path> segments = Files.list(directory)) {
+			assertThat(segments.count()).isEqualTo(recordCount / 8 + 1);
+		}
+		assertThat(amounts).containsExactlyElementsOf(LongStream.range(0, recordCount).boxed().toList());
+	}
+
+	/**
+	 * [작성 이유]
+	 * 기록하는 도중에 종료되어 마지막 레코드가 일부만 기록되었더라도, 다시 열 때 손상된 꼬리 부분을 잘라내고
+	 * 그 뒤에 이어서 기록할 수 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 마지막_레코드가_일부만_기록되었으면_잘라내고_이어서_기록한다() throws IOException {
+		// given
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.EVERY_WRITE, 0, SEGMENT_BYTES)) {
+			pointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 1_000L, 1L));
+		}
+		final Path segment;
+		try (Stream<Path> segments = Files.list(directory)) {
+			segment = segments.findFirst().orElseThrow();
+		}
+		Files.write(segment, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, StandardOpenOption.APPEND);
+
+		// when
+		final List<Long> amounts = new ArrayList<>();
+		try (FilePointTransactionLog reopenedPointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.EVERY_WRITE, 0, SEGMENT_BYTES)) {
+			reopenedPointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 2_000L, 2L));
+			reopenedPointTransactionLog.replay(0, entry -> amounts.add(entry.amount()));
+		}
+
+		// then
+		assertThat(Files.size(segment)).isEqualTo(FilePointTransactionLog.RECORD_SIZE * 2L);
+		assertThat(amounts).containsExactly(1_000L, 2_000L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * group commit 정책에서 여러 스레드가 동시에 기록해도, 모든 내역이 fsync된 뒤에 반환되고 유실되지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void group_commit_정책에서_동시에_기록해도_모든_내역이_기록된다() {
+		// given
+		final int threadCount = 8;
+		final int appendsPerThread = 50;
+		FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(directory, FsyncPolicy.GROUP, 2,
+			SEGMENT_BYTES);
+
+		// when
+		CompletableFuture<?>[] futures = IntStream.range(0, threadCount)
+			.mapToObj((thread) -> CompletableFuture.runAsync(() -> {
+				for (int index = 0; index < appendsPerThread; index++) {
+					pointTransactionLog.append(new PointTransactionLog.Entry(thread, TransactionType.CHARGE, 10L, 1L));
+				}
+			}))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).join();
+		pointTransactionLog.close();
+
+		// then
+		final long[] appendCounts = new long[threadCount];
+		try (FilePointTransactionLog reopenedPointTransactionLog = new FilePointTransactionLog(directory,
+			FsyncPolicy.GROUP, 2, SEGMENT_BYTES)) {
+			assertThat(reopenedPointTransactionLog.writtenSequence()).isEqualTo((long)threadCount * appendsPerThread);
+			reopenedPointTransactionLog.replay(0, entry -> appendCounts[(int)entry.userId()]++);
+		}
+		assertThat(appendCounts).containsOnly(appendsPerThread);
+	}
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class IndexedPointHistoryTableTest {
+
+	/**
+	 * [작성 이유]
+	 * 여러 회원의 내역이 섞여서 기록되더라도, 회원별 목록에는 해당 회원의 내역만 id 내림차순으로 남아 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 기록된_내역을_회원별로_id_내림차순으로_반환한다() {
+		// given
+		final long userId = 123L;
+		final long otherUserId = 456L;
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+
+		// when
+		for (int index = 0; index < 6; index++) {
+			pointHistoryTable.insert(index % 2 == 0 ? userId : otherUserId, 1000L, TransactionType.CHARGE,
+				System.currentTimeMillis());
+		}
+
+		// then
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId);
+		assertThat(pointHistories.stream().map(PointHistory::id).toList()).containsExactly(5L, 3L, 1L);
+		assertThat(pointHistories.stream().map(PointHistory::userId).distinct().toList()).containsExactly(userId);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 내역이 없는 회원을 조회할 경우 null이 아닌 빈 리스트를 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 내역이_없는_회원은_빈_리스트를_반환한다() {
+		// given
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+
+		// when
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserIdOrderByIdDesc(123L);
+
+		// then
+		assertThat(pointHistories).isEmpty();
+	}
+
+	/**
+	 * [작성 이유]
+	 * beforeId보다 작은 id의 내역부터 limit건만 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void beforeId보다_작은_id의_내역을_limit건만_반환한다() {
+		// given
+		final long userId = 123L;
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+		for (int index = 0; index < 5; index++) {
+			pointHistoryTable.insert(userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+		}
+
+		// when
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId, 4L, 2);
+
+		// then
+		assertThat(pointHistories.stream().map(PointHistory::id).toList()).containsExactly(3L, 2L);
+	}
+}
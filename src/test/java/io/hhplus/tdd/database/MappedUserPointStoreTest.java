@@ -0,0 +1,129 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+class MappedUserPointStoreTest {
+	private static final int USER_COUNT = 1000;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * [작성 이유]
+	 * 저장된 잔액이 없는 회원은 UserPointTable과 동일하게 0 포인트를 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 저장된_잔액이_없는_회원은_0_포인트를_반환한다() {
+		// given
+		final long userId = 123L;
+
+		try (MappedUserPointStore userPointStore = new MappedUserPointStore(directory.resolve("point.dat"), 16)) {
+			// when
+			UserPoint userPoint = userPointStore.selectById(userId);
+
+			// then
+			assertThat(userPoint.id()).isEqualTo(userId);
+			assertThat(userPoint.point()).isZero();
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 파일을 닫고 다시 열면 데이터를 다시 적재하지 않아도 저장했던 잔액을 그대로 조회할 수 있는지 확인하고자 작성했습니다.
+	 * 다시 열 때 지정한 slot 개수는 무시하고, 파일에 기록된 slot 개수를 사용해야 합니다.
+	 */
+	@Test
+	void 파일을_다시_열어도_저장했던_잔액을_조회할_수_있다() {
+		// given
+		final Path path = directory.resolve("point.dat");
+		try (MappedUserPointStore userPointStore = new MappedUserPointStore(path, 4096)) {
+			for (long userId = 1; userId <= USER_COUNT; userId++) {
+				userPointStore.insertOrUpdate(userId, 1000L);
+				userPointStore.insertOrUpdate(userId, userId * 10);
+			}
+		}
+
+		// when
+		try (MappedUserPointStore reopenedUserPointStore = new MappedUserPointStore(path, 16)) {
+			// then
+			assertThat(reopenedUserPointStore.capacity()).isEqualTo(4096L);
+			for (long userId = 1; userId <= USER_COUNT; userId++) {
+				assertThat(reopenedUserPointStore.selectById(userId).point()).isEqualTo(userId * 10);
+			}
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잔액을 저장하는 도중에 프로세스가 강제 종료되어도, 다시 열면 마지막으로 저장이 끝난 잔액 이상을 조회하고
+	 * 쓰다 만 값이나 빈 잔액을 조회하지 않는지 확인하고자 작성했습니다.
+	 * 별도 JVM에서 회원 전체의 잔액을 round 값으로 반복 저장하게 하고, 저장 도중에 프로세스를 강제 종료합니다.
+	 */
+	@Test
+	void 저장_도중에_프로세스가_강제_종료되어도_마지막으로_저장한_잔액을_복구한다() throws Exception {
+		// given
+		final Path path = directory.resolve("point.dat");
+		final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+			CrashWriter.class.getName(), path.toString(), String.valueOf(USER_COUNT))
+			.redirectError(ProcessBuilder.Redirect.INHERIT)
+			.start();
+		long committedRound = 0;
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while (committedRound < 50 && (line = reader.readLine()) != null) {
+				committedRound = Long.parseLong(line);
+			}
+
+			// when
+			process.destroyForcibly();
+			assertThat(process.waitFor(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// then
+		assertThat(committedRound).isEqualTo(50L);
+		try (MappedUserPointStore userPointStore = new MappedUserPointStore(path, 16)) {
+			long minPoint = Long.MAX_VALUE;
+			long maxPoint = Long.MIN_VALUE;
+			for (long userId = 1; userId <= USER_COUNT; userId++) {
+				UserPoint userPoint = userPointStore.selectById(userId);
+				assertThat(userPoint.updateMillis()).isPositive();
+				minPoint = Math.min(minPoint, userPoint.point());
+				maxPoint = Math.max(maxPoint, userPoint.point());
+			}
+			assertThat(minPoint).isGreaterThanOrEqualTo(committedRound);
+			assertThat(maxPoint - minPoint).isLessThanOrEqualTo(1L);
+		}
+	}
+
+	/**
+	 * 회원 전체의 잔액을 round 값으로 저장할 때마다 round를 출력하며, 종료될 때까지 반복합니다.
+	 * round를 출력했다면 그 round까지의 저장은 모두 끝난 것입니다.
+	 */
+	static class CrashWriter {
+		public static void main(String[] args) {
+			final int userCount = Integer.parseInt(args[1]);
+			MappedUserPointStore userPointStore = new MappedUserPointStore(new File(args[0]).toPath(), 4096);
+			for (long round = 1; ; round++) {
+				for (long userId = 1; userId <= userCount; userId++) {
+					userPointStore.insertOrUpdate(userId, round);
+				}
+				System.out.println(round);
+				System.out.flush();
+			}
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class PointBalanceSnapshotterTest {
+	private static final long SEGMENT_BYTES = FilePointTransactionLog.RECORD_SIZE * 8L;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * [작성 이유]
+	 * snapshot에는 rolling이 끝난 segment까지만 포함되고 포함된 segment는 삭제되며,
+	 * 다시 시작하면 snapshot과 watermark 이후의 내역만으로 전체 내역을 적용한 것과 같은 잔액을 복구하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void snapshot과_watermark_이후의_내역으로_잔액을_복구한다() throws IOException {
+		// given
+		final Path logDirectory = directory.resolve("log");
+		final Path snapshotDirectory = directory.resolve("snapshot");
+		final long watermark;
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			for (long index = 0; index < 100; index++) {
+				pointTransactionLog.append(
+					new PointTransactionLog.Entry(index % 4, TransactionType.CHARGE, 100L, index));
+			}
+			watermark = pointBalanceSnapshotter.snapshot();
+			pointTransactionLog.append(new PointTransactionLog.Entry(0L, TransactionType.USE, 500L, 100L));
+		}
+
+		// when
+		UserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+		final int userCount;
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			userCount = pointBalanceSnapshotter.rebuildBalances(userPointStore);
+		}
+
+		// then
+		assertThat(watermark).isEqualTo(96L);
+		try (Stream<Path> segments = Files.list(logDirectory)) {
+			assertThat(segments.count()).isEqualTo(1L);
+		}
+		assertThat(userCount).isEqualTo(4);
+		assertThat(userPointStore.selectById(0L).point()).isEqualTo(2_000L);
+		for (long userId = 1; userId < 4; userId++) {
+			assertThat(userPointStore.selectById(userId).point()).isEqualTo(2_500L);
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 저장할 때마다 지연이 있는 기본 테이블 저장소로 복구하더라도 회원마다 기다리지 않고,
+	 * 복구한 뒤에는 복구한 잔액을 조회하고 그 위에 변경할 수 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 기본_테이블_저장소로도_회원마다_기다리지_않고_잔액을_복구한다() {
+		// given
+		final int userCount = 100;
+		final Path logDirectory = directory.resolve("log");
+		final Path snapshotDirectory = directory.resolve("snapshot");
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			for (long userId = 0; userId < userCount; userId++) {
+				pointTransactionLog.append(new PointTransactionLog.Entry(userId, TransactionType.CHARGE, 100L, userId));
+			}
+			pointBalanceSnapshotter.snapshot();
+		}
+		UserPointStore userPointStore = new UserPointTableStore(new UserPointTable());
+
+		// when
+		final long startNanos = System.nanoTime();
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			pointBalanceSnapshotter.rebuildBalances(userPointStore);
+		}
+		final long elapsedNanos = System.nanoTime() - startNanos;
+
+		// then
+		assertThat(elapsedNanos).isLessThan(TimeUnit.SECONDS.toNanos(1L));
+		for (long userId = 0; userId < userCount; userId++) {
+			assertThat(userPointStore.selectById(userId).point()).isEqualTo(100L);
+		}
+		assertThat(userPointStore.compareAndUpdate(0L, 100L, 300L)).isNotNull();
+		assertThat(userPointStore.selectById(0L).point()).isEqualTo(300L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 직전 snapshot 이후로 rolling이 끝난 segment가 없으면 새로운 snapshot을 만들지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 새로_더할_내역이_없으면_snapshot을_만들지_않는다() throws IOException {
+		// given
+		final Path snapshotDirectory = directory.resolve("snapshot");
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(directory.resolve("log"),
+			FsyncPolicy.OS, 0, SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			for (long index = 0; index < 10; index++) {
+				pointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 100L, index));
+			}
+			final long watermark = pointBalanceSnapshotter.snapshot();
+			pointTransactionLog.append(new PointTransactionLog.Entry(1L, TransactionType.CHARGE, 100L, 10L));
+
+			// when
+			final long nextWatermark = pointBalanceSnapshotter.snapshot();
+
+			// then
+			assertThat(nextWatermark).isEqualTo(watermark);
+			try (Stream<Path> snapshots = Files.list(snapshotDirectory)) {
+				assertThat(snapshots.count()).isEqualTo(1L);
+			}
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 여러 스레드가 로그에 기록하는 동안 snapshot을 반복해서 만들어도 기록이 막히거나 유실되지 않고,
+	 * 다시 시작하면 모든 내역이 반영된 잔액을 복구하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 기록하는_도중에_snapshot을_만들어도_모든_내역이_반영된_잔액을_복구한다() {
+		// given
+		final int threadCount = 8;
+		final int appendsPerThread = 500;
+		final Path logDirectory = directory.resolve("log");
+		final Path snapshotDirectory = directory.resolve("snapshot");
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+
+			// when
+			CompletableFuture<?>[] futures = IntStream.range(0, threadCount)
+				.mapToObj((thread) -> CompletableFuture.runAsync(() -> {
+					for (int index = 0; index < appendsPerThread; index++) {
+						pointTransactionLog.append(new PointTransactionLog.Entry(thread, TransactionType.CHARGE, 10L,
+							index));
+					}
+				}))
+				.toArray(CompletableFuture[]::new);
+			CompletableFuture<Void> writers = CompletableFuture.allOf(futures);
+			while (!writers.isDone()) {
+				pointBalanceSnapshotter.snapshot();
+			}
+			writers.join();
+		}
+
+		// then
+		UserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+		try (FilePointTransactionLog pointTransactionLog = new FilePointTransactionLog(logDirectory, FsyncPolicy.OS, 0,
+			SEGMENT_BYTES);
+			PointBalanceSnapshotter pointBalanceSnapshotter = new PointBalanceSnapshotter(pointTransactionLog,
+				snapshotDirectory, 0)) {
+			pointBalanceSnapshotter.rebuildBalances(userPointStore);
+		}
+		for (long userId = 0; userId < threadCount; userId++) {
+			assertThat(userPointStore.selectById(userId).point()).isEqualTo(10L * appendsPerThread);
+		}
+	}
+}
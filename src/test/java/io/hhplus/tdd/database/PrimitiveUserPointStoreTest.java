@@ -0,0 +1,120 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+class PrimitiveUserPointStoreTest {
+
+	/**
+	 * [작성 이유]
+	 * 저장된 잔액이 없는 회원은 UserPointTable과 동일하게 0 포인트를 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 저장된_잔액이_없는_회원은_0_포인트를_반환한다() {
+		// given
+		final long userId = 123L;
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+
+		// when
+		UserPoint userPoint = userPointStore.selectById(userId);
+
+		// then
+		assertThat(userPoint.id()).isEqualTo(userId);
+		assertThat(userPoint.point()).isZero();
+		assertThat(userPointStore.size()).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 같은 회원의 잔액을 다시 저장하면 새로운 칸을 만들지 않고 기존 잔액을 덮어쓰는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 같은_회원의_잔액을_다시_저장하면_기존_잔액을_덮어쓴다() {
+		// given
+		final long userId = 123L;
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+		userPointStore.insertOrUpdate(userId, 1000L);
+
+		// when
+		UserPoint savedUserPoint = userPointStore.insertOrUpdate(userId, 3000L);
+
+		// then
+		assertThat(userPointStore.selectById(userId)).isEqualTo(savedUserPoint);
+		assertThat(userPointStore.pointOf(userId)).isEqualTo(3000L);
+		assertThat(userPointStore.size()).isEqualTo(1L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 예상 회원 수보다 많이 저장하여 배열을 늘리더라도, 동시에 저장한 모든 회원의 잔액이 유실되지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 예상_회원_수를_넘어_동시에_저장해도_모든_회원의_잔액을_조회할_수_있다() {
+		// given
+		final int threadCount = 8;
+		final int usersPerThread = 10_000;
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+
+		// when
+		CompletableFuture<?>[] futures = IntStream.range(0, threadCount)
+			.mapToObj((thread) -> CompletableFuture.runAsync(() -> {
+				for (int index = 0; index < usersPerThread; index++) {
+					final long userId = (long)thread * usersPerThread + index;
+					userPointStore.put(userId, userId * 10, userId);
+				}
+			}))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).join();
+
+		// then
+		assertThat(userPointStore.size()).isEqualTo((long)threadCount * usersPerThread);
+		for (long userId = 0; userId < (long)threadCount * usersPerThread; userId++) {
+			assertThat(userPointStore.pointOf(userId)).isEqualTo(userId * 10);
+			assertThat(userPointStore.updateMillisOf(userId)).isEqualTo(userId);
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 빈 칸을 나타내는 값을 회원 ID로 저장하여 다른 회원의 칸이 손상되지 않도록 예외를 발생시키는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 빈_칸을_나타내는_값은_회원_ID로_사용할_수_없다() {
+		// given
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+
+		// when & then
+		assertThatThrownBy(() -> userPointStore.insertOrUpdate(PrimitiveUserPointStore.EMPTY_KEY, 1000L))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * [작성 이유]
+	 * compareAndUpdate는 저장된 잔액이 예상한 잔액과 같을 때만 저장하고, 다르면 잔액을 바꾸지 않고 null을 반환하는지 확인하고자 작성했습니다.
+	 * 잔액이 없는 회원은 0 포인트가 저장된 것으로 보고 비교합니다.
+	 */
+	@Test
+	void 저장된_잔액이_예상한_잔액과_같을_때만_조건부로_저장한다() {
+		// given
+		final long userId = 123L;
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+
+		// when
+		UserPoint firstUserPoint = userPointStore.compareAndUpdate(userId, 0L, 1000L);
+		UserPoint conflictedUserPoint = userPointStore.compareAndUpdate(userId, 0L, 2000L);
+		UserPoint secondUserPoint = userPointStore.compareAndUpdate(userId, 1000L, 3000L);
+
+		// then
+		assertThat(firstUserPoint.point()).isEqualTo(1000L);
+		assertThat(conflictedUserPoint).isNull();
+		assertThat(secondUserPoint.point()).isEqualTo(3000L);
+		assertThat(userPointStore.pointOf(userId)).isEqualTo(3000L);
+		assertThat(userPointStore.size()).isEqualTo(1L);
+	}
+}
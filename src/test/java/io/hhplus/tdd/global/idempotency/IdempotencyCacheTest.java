@@ -0,0 +1,114 @@
+package io.hhplus.tdd.global.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+class IdempotencyCacheTest {
+	private final IdempotencyCache idempotencyCache = new IdempotencyCache(Duration.ofMinutes(1), 1_000);
+
+	/**
+	 * [작성 이유]
+	 * 같은 Idempotency-Key로 다시 요청하면 다시 처리하지 않고 처음 처리한 결과를 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 같은_키로_다시_요청하면_다시_처리하지_않고_처음_결과를_반환한다() {
+		// given
+		final IdempotencyCache.Key key = new IdempotencyCache.Key("charge", 1L, "key-1");
+		final AtomicInteger executionCount = new AtomicInteger();
+		final UserPoint first = idempotencyCache.execute(key, 1000L,
+			() -> new UserPoint(1L, 1000L * executionCount.incrementAndGet(), 1L));
+
+		// when
+		final UserPoint retried = idempotencyCache.execute(key, 1000L,
+			() -> new UserPoint(1L, 1000L * executionCount.incrementAndGet(), 2L));
+
+		// then
+		assertThat(retried).isEqualTo(first);
+		assertThat(executionCount.get()).isEqualTo(1);
+		assertThat(idempotencyCache.replayCount()).isEqualTo(1L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 같은 키의 요청이 처리 중일 때 동시에 재시도하더라도 한 번만 처리되고, 모든 요청이 같은 결과를 받는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 같은_키의_요청이_동시에_들어와도_한_번만_처리한다() {
+		// given
+		final int requestCount = 50;
+		final IdempotencyCache.Key key = new IdempotencyCache.Key("charge", 1L, "key-1");
+		final AtomicInteger executionCount = new AtomicInteger();
+
+		// when
+		List<CompletableFuture<UserPoint>> futures = IntStream.range(0, requestCount)
+			.mapToObj((index) -> CompletableFuture.supplyAsync(() -> idempotencyCache.execute(key, 1000L, () -> {
+				executionCount.incrementAndGet();
+				sleep(50L);
+				return new UserPoint(1L, 1000L, 1L);
+			})))
+			.toList();
+		List<UserPoint> results = futures.stream().map(CompletableFuture::join).toList();
+
+		// then
+		assertThat(executionCount.get()).isEqualTo(1);
+		assertThat(results).containsOnly(new UserPoint(1L, 1000L, 1L));
+	}
+
+	/**
+	 * [작성 이유]
+	 * 처리에 실패한 결과는 보관하지 않아, 잠금 대기 시간 초과 등으로 실패한 요청을 같은 키로 재시도할 수 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 처리에_실패하면_같은_키로_다시_요청할_때_다시_처리한다() {
+		// given
+		final IdempotencyCache.Key key = new IdempotencyCache.Key("use", 1L, "key-1");
+		assertThatThrownBy(() -> idempotencyCache.execute(key, 1000L, () -> {
+			throw new RuntimeException("잠시 후에 다시 시도해 주시기 바랍니다.");
+		})).isInstanceOf(RuntimeException.class);
+
+		// when
+		final UserPoint retried = idempotencyCache.execute(key, 1000L, () -> new UserPoint(1L, 0L, 1L));
+
+		// then
+		assertThat(retried).isEqualTo(new UserPoint(1L, 0L, 1L));
+		assertThat(idempotencyCache.replayCount()).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 같은 키로 내용이 다른 요청을 보내면 이전 결과를 반환하거나 새로 처리하지 않고 실패하는지 확인하고자 작성했습니다.
+	 * 같은 키라도 회원이 다르면 서로 다른 요청으로 처리합니다.
+	 */
+	@Test
+	void 같은_키로_내용이_다른_요청을_보내면_실패한다() {
+		// given
+		final IdempotencyCache.Key key = new IdempotencyCache.Key("charge", 1L, "key-1");
+		idempotencyCache.execute(key, 1000L, () -> new UserPoint(1L, 1000L, 1L));
+
+		// when & then
+		assertThatThrownBy(() -> idempotencyCache.execute(key, 2000L, () -> new UserPoint(1L, 3000L, 2L)))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+		final UserPoint otherUser = idempotencyCache.execute(new IdempotencyCache.Key("charge", 2L, "key-1"), 2000L,
+			() -> new UserPoint(2L, 2000L, 2L));
+		assertThat(otherUser).isEqualTo(new UserPoint(2L, 2000L, 2L));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.global.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+class StripedLockPoolTest {
+
+	/**
+	 * [작성 이유]
+	 * 동일한 사용자는 항상 같은 잠금을 사용해야 동시성 제어가 가능하기 때문에 작성했습니다.
+	 */
+	@Test
+	void 동일한_사용자는_항상_같은_잠금을_반환한다() {
+		// given
+		final StripedLockPool stripedLockPool = new StripedLockPool(64);
+		final long userId = 123L;
+
+		// when
+		Lock lock = stripedLockPool.get(userId);
+
+		// then
+		assertThat(stripedLockPool.get(userId)).isSameAs(lock);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 사용자 수가 늘어나도 잠금 개수는 stripe 개수를 넘지 않는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 사용자_수와_관계없이_잠금_개수는_stripe_개수를_넘지_않는다() {
+		// given
+		final StripedLockPool stripedLockPool = new StripedLockPool(64);
+		Set<Lock> locks = new HashSet<>();
+
+		// when
+		for (long userId = 1; userId <= 100_000; userId++) {
+			locks.add(stripedLockPool.get(userId));
+		}
+
+		// then
+		assertThat(locks).hasSize(64);
+	}
+
+	/**
+	 * [작성 이유]
+	 * stripe 개수를 2의 거듭제곱으로 올림하는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void stripe_개수는_2의_거듭제곱으로_올림한다() {
+		assertThat(new StripedLockPool(1).stripeCount()).isEqualTo(1);
+		assertThat(new StripedLockPool(100).stripeCount()).isEqualTo(128);
+		assertThat(new StripedLockPool(128).stripeCount()).isEqualTo(128);
+	}
+
+	@Test
+	void stripe_개수가_1_미만이면_예외를_발생시킨다() {
+		assertThatThrownBy(() -> new StripedLockPool(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잠겨 있는 stripe 수와 잠금을 기다리는 스레드 수가 지표로 제공되는 값과 일치하는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잠겨_있는_stripe_수와_대기_중인_스레드_수를_반환한다() throws InterruptedException {
+		// given
+		final StripedLockPool stripedLockPool = new StripedLockPool(64);
+		final long userId = 123L;
+		final Lock lock = stripedLockPool.get(userId);
+		lock.lock();
+		final CountDownLatch acquired = new CountDownLatch(1);
+		Thread waiter = new Thread(() -> {
+			stripedLockPool.get(userId).lock();
+			try {
+				acquired.countDown();
+			} finally {
+				stripedLockPool.get(userId).unlock();
+			}
+		});
+
+		try {
+			// when
+			waiter.start();
+			while (stripedLockPool.queuedThreadCount() == 0) {
+				Thread.onSpinWait();
+			}
+
+			// then
+			assertThat(stripedLockPool.lockedCount()).isEqualTo(1);
+			assertThat(stripedLockPool.queuedThreadCount()).isEqualTo(1);
+		} finally {
+			lock.unlock();
+		}
+		acquired.await();
+		waiter.join();
+		assertThat(stripedLockPool.lockedCount()).isZero();
+		assertThat(stripedLockPool.queuedThreadCount()).isZero();
+	}
+}
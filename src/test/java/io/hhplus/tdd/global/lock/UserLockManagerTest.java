@@ -0,0 +1,146 @@
+package io.hhplus.tdd.global.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+
+class UserLockManagerTest {
+	private static final long USER_ID = 123L;
+
+	/**
+	 * [작성 이유]
+	 * 한 회원의 잠금을 기다리는 요청이 maxQueuedPerUser개를 넘으면, 잠금을 기다리지 않고 바로 429로 거절하는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잠금을_기다리는_요청이_제한을_넘으면_기다리지_않고_바로_거절한다() throws InterruptedException {
+		// given
+		final UserLockManager userLockManager = new UserLockManager(new StripedLockPool(16), 0,
+			TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(10L), 1);
+		final CountDownLatch locked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockManager, locked, release);
+		locked.await();
+
+		try {
+			// when & then
+			final long startNanos = System.nanoTime();
+			assertThatThrownBy(() -> userLockManager.executeWithLock(USER_ID, () -> 1))
+				.isInstanceOf(TooManyRequestsException.class)
+				.hasMessage("잠시 후에 다시 시도해 주시기 바랍니다.");
+			assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.SECONDS.toNanos(1L));
+			assertThat(userLockManager.rejectedCount()).isEqualTo(1L);
+		} finally {
+			release.countDown();
+			holder.join();
+		}
+		assertThat(userLockManager.executeWithLock(USER_ID, () -> 1)).isEqualTo(1);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잠금을 보유한 요청이 오래 걸리면 다른 요청은 10초를 모두 기다리지 않고 maxTimeout이 지나면 429로 거절되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잠금을_maxTimeout_동안_획득하지_못하면_거절한다() throws InterruptedException {
+		// given
+		final UserLockManager userLockManager = new UserLockManager(new StripedLockPool(16), Integer.MAX_VALUE,
+			TimeUnit.MILLISECONDS.toNanos(10L), TimeUnit.MILLISECONDS.toNanos(100L), 4);
+		final CountDownLatch locked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockManager, locked, release);
+		locked.await();
+
+		try {
+			// when & then
+			assertThatThrownBy(() -> userLockManager.executeWithLock(USER_ID, () -> 1))
+				.isInstanceOf(TooManyRequestsException.class);
+			assertThat(userLockManager.rejectedCount()).isEqualTo(1L);
+		} finally {
+			release.countDown();
+			holder.join();
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 입장 제한은 회원마다 따로 두므로, 같은 stripe를 공유하는 다른 회원에게 요청이 몰려 제한에 걸려도
+	 * 이 회원의 요청은 거절되지 않고 잠금을 기다렸다가 실행되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 같은_stripe의_다른_회원이_입장_제한에_걸려도_거절하지_않고_기다린다() throws InterruptedException {
+		// given
+		final long otherUserId = 456L;
+		final UserLockManager userLockManager = new UserLockManager(new StripedLockPool(1), 0,
+			TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(10L), 1);
+		final CountDownLatch locked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockManager, locked, release);
+		locked.await();
+
+		// when
+		CompletableFuture<Integer> other = CompletableFuture.supplyAsync(
+			() -> userLockManager.executeWithLock(otherUserId, () -> 1));
+		assertThatThrownBy(() -> userLockManager.executeWithLock(USER_ID, () -> 1))
+			.isInstanceOf(TooManyRequestsException.class);
+		release.countDown();
+		holder.join();
+
+		// then
+		assertThat(other.join()).isEqualTo(1);
+		assertThat(userLockManager.rejectedCount()).isEqualTo(1L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잠금을 기다리는 도중 인터럽트되면 500이 아닌 429로 응답할 수 있도록 TooManyRequestsException을 던지고,
+	 * 인터럽트 상태를 다시 설정하는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잠금을_기다리는_도중_인터럽트되면_인터럽트_상태를_유지한_채_거절한다() throws InterruptedException {
+		// given
+		final UserLockManager userLockManager = new UserLockManager(new StripedLockPool(16), Integer.MAX_VALUE,
+			TimeUnit.SECONDS.toNanos(10L), TimeUnit.SECONDS.toNanos(10L), 1);
+		final CountDownLatch locked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = holdLock(userLockManager, locked, release);
+		locked.await();
+		final CompletableFuture<Boolean> interruptedAfterReject = new CompletableFuture<>();
+
+		// when
+		Thread waiter = Thread.ofPlatform().start(() -> {
+			try {
+				userLockManager.executeWithLock(USER_ID, () -> 1);
+				interruptedAfterReject.complete(false);
+			} catch (TooManyRequestsException e) {
+				interruptedAfterReject.complete(Thread.currentThread().isInterrupted());
+			}
+		});
+		waiter.interrupt();
+		waiter.join();
+		release.countDown();
+		holder.join();
+
+		// then
+		assertThat(interruptedAfterReject.join()).isTrue();
+		assertThat(userLockManager.rejectedCount()).isEqualTo(1L);
+	}
+
+	private static CompletableFuture<Void> holdLock(UserLockManager userLockManager, CountDownLatch locked,
+		CountDownLatch release) {
+		return CompletableFuture.runAsync(() -> userLockManager.executeWithLock(USER_ID, () -> {
+			locked.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}));
+	}
+}
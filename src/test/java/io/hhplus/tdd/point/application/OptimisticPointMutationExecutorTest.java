@@ -0,0 +1,267 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+class OptimisticPointMutationExecutorTest {
+	private static final int MAX_ATTEMPTS = 1_000;
+	private static final long INITIAL_BACKOFF_NANOS = 1_000L;
+	private static final long MAX_BACKOFF_NANOS = 100_000L;
+
+	private PrimitiveUserPointStore userPointStore;
+	private PointHistoryTable pointHistoryTable;
+	private OptimisticPointMutationExecutor optimisticPointMutationExecutor;
+
+	@BeforeEach
+	void setUp() {
+		userPointStore = new PrimitiveUserPointStore(4, 16);
+		pointHistoryTable = new PointHistoryTable();
+		optimisticPointMutationExecutor = new OptimisticPointMutationExecutor(userPointStore,
+			new DirectPointHistoryRecorder(pointHistoryTable), PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT,
+			PointSpendLimiter.NO_OP, MAX_ATTEMPTS, INITIAL_BACKOFF_NANOS, MAX_BACKOFF_NANOS);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잠금 없이 같은 회원의 잔액을 동시에 변경하더라도, 충돌한 요청이 다시 읽어 재시도하여 Lost Update가 발생하지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 동일한_회원에게_1000_포인트_충전_요청_100건이_동시에_들어오면_100_000_포인트를_보유하게_된다() throws InterruptedException {
+		// given
+		final int threadCount = 100;
+		final long userId = 123L;
+		final long amount = 1000L;
+		OptimisticPointChargeService pointChargeService = new OptimisticPointChargeService(
+			optimisticPointMutationExecutor);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		IntStream.range(0, threadCount)
+			.forEach((index) -> executorService.execute(() -> {
+				try {
+					startLatch.await();
+					pointChargeService.execute(new PointChargeService.Command(userId, amount,
+						System.currentTimeMillis()));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		startLatch.countDown();
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(userPointStore.pointOf(userId)).isEqualTo(threadCount * amount);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(threadCount);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 충전과 사용이 동시에 들어와 충돌하더라도, 재시도할 때 다시 읽은 잔액으로 검증하여 잔액이 음수가 되지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 보유한_포인트보다_많은_사용_요청이_동시에_들어와도_잔액은_음수가_되지_않는다() throws InterruptedException {
+		// given
+		final int threadCount = 50;
+		final long userId = 123L;
+		userPointStore.insertOrUpdate(userId, 10_000L);
+		OptimisticPointUseService pointUseService = new OptimisticPointUseService(optimisticPointMutationExecutor);
+		AtomicInteger successCount = new AtomicInteger();
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		IntStream.range(0, threadCount)
+			.forEach((index) -> executorService.execute(() -> {
+				try {
+					startLatch.await();
+					pointUseService.execute(new PointUseService.Command(userId, 1000L, System.currentTimeMillis()));
+					successCount.incrementAndGet();
+				} catch (ApplicationException e) {
+					// 잔액이 부족한 요청은 실패합니다.
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		startLatch.countDown();
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(successCount.get()).isEqualTo(10);
+		assertThat(userPointStore.pointOf(userId)).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 최대 시도 횟수만큼 모두 충돌하면 무한히 재시도하지 않고 실패를 응답하며, 내역을 기록하지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 최대_시도_횟수만큼_모두_충돌하면_실패를_응답한다() {
+		// given
+		final int maxAttempts = 3;
+		final long userId = 123L;
+		UserPointStore alwaysConflictingStore = new UserPointStore() {
+			@Override
+			public UserPoint selectById(long id) {
+				return new UserPoint(id, 0L, 0L);
+			}
+
+			@Override
+			public UserPoint insertOrUpdate(long id, long amount) {
+				return new UserPoint(id, amount, 0L);
+			}
+
+			@Override
+			public UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint) {
+				return null;
+			}
+		};
+		OptimisticPointMutationExecutor executor = new OptimisticPointMutationExecutor(alwaysConflictingStore,
+			new DirectPointHistoryRecorder(pointHistoryTable), PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT,
+			PointSpendLimiter.NO_OP, maxAttempts, INITIAL_BACKOFF_NANOS, MAX_BACKOFF_NANOS);
+
+		// when & then
+		assertThatThrownBy(() -> executor.execute(userId, TransactionType.CHARGE, 1000L, System.currentTimeMillis()))
+			.isInstanceOf(TooManyRequestsException.class);
+		assertThat(executor.conflictCount()).isEqualTo(maxAttempts);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).isEmpty();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 로그에 먼저 기록한 뒤 저장하므로, 충돌한 시도는 반대 방향의 내역으로 상쇄되어
+	 * 로그를 재생하면 저장에 성공한 변경만 남는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 충돌한_시도는_로그에서_상쇄되어_재생하면_저장에_성공한_변경만_남는다() {
+		// given
+		final long userId = 123L;
+		final long amount = 1000L;
+		final long currentTimeMillis = System.currentTimeMillis();
+		final AtomicInteger attemptCount = new AtomicInteger();
+		UserPointStore conflictingOnceStore = new UserPointStore() {
+			@Override
+			public UserPoint selectById(long id) {
+				return userPointStore.selectById(id);
+			}
+
+			@Override
+			public UserPoint insertOrUpdate(long id, long point) {
+				return userPointStore.insertOrUpdate(id, point);
+			}
+
+			@Override
+			public UserPoint compareAndUpdate(long id, long expectedPoint, long newPoint) {
+				if (attemptCount.incrementAndGet() == 1) {
+					return null;
+				}
+				return userPointStore.compareAndUpdate(id, expectedPoint, newPoint);
+			}
+		};
+		final List<PointTransactionLog.Entry> entries = new ArrayList<>();
+		PointTransactionLog recordingPointTransactionLog = new PointTransactionLog() {
+			@Override
+			public void append(Entry entry) {
+				entries.add(entry);
+			}
+
+			@Override
+			public void appendAll(List<Entry> appendedEntries) {
+				entries.addAll(appendedEntries);
+			}
+		};
+		OptimisticPointMutationExecutor executor = new OptimisticPointMutationExecutor(conflictingOnceStore,
+			new DirectPointHistoryRecorder(pointHistoryTable), recordingPointTransactionLog,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP, MAX_ATTEMPTS, INITIAL_BACKOFF_NANOS,
+			MAX_BACKOFF_NANOS);
+
+		// when
+		executor.execute(userId, TransactionType.CHARGE, amount, currentTimeMillis);
+
+		// then
+		assertThat(entries).containsExactly(
+			new PointTransactionLog.Entry(userId, TransactionType.CHARGE, amount, currentTimeMillis),
+			new PointTransactionLog.Entry(userId, TransactionType.USE, amount, currentTimeMillis),
+			new PointTransactionLog.Entry(userId, TransactionType.CHARGE, amount, currentTimeMillis));
+		long replayedPoint = entries.stream()
+			.mapToLong(entry -> entry.type() == TransactionType.CHARGE ? entry.amount() : -entry.amount())
+			.sum();
+		assertThat(replayedPoint).isEqualTo(userPointStore.selectById(userId).point()).isEqualTo(amount);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 충돌한 시도가 더한 사용 한도를 되돌리지 않으면 실제로 사용한 포인트보다 많이 쌓여 한도 전에 거절되므로,
+	 * 동시에 사용하더라도 하루 한도만큼만 정확히 사용되는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 하루_한도가_10_000_포인트이면_1000_포인트_사용_요청_50건_중_10건만_성공한다() throws InterruptedException {
+		// given
+		final int threadCount = 50;
+		final long userId = 123L;
+		final long amount = 1000L;
+		userPointStore.insertOrUpdate(userId, 100_000L);
+		PointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(10_000L, 0L, 12, ZoneOffset.UTC, 16L);
+		OptimisticPointUseService pointUseService = new OptimisticPointUseService(new OptimisticPointMutationExecutor(
+			userPointStore, new DirectPointHistoryRecorder(new ConcurrentPointHistoryTable(0L)),
+			PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT, pointSpendLimiter, MAX_ATTEMPTS,
+			INITIAL_BACKOFF_NANOS, MAX_BACKOFF_NANOS));
+		final AtomicInteger successCount = new AtomicInteger();
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		IntStream.range(0, threadCount)
+			.forEach((index) -> executorService.execute(() -> {
+				try {
+					startLatch.await();
+					pointUseService.execute(new PointUseService.Command(userId, amount, System.currentTimeMillis()));
+					successCount.incrementAndGet();
+				} catch (ApplicationException ignored) {
+					// 하루 한도를 넘은 요청은 실패합니다.
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		startLatch.countDown();
+		countDownLatch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(successCount.get()).isEqualTo(10);
+		assertThat(userPointStore.selectById(userId).point()).isEqualTo(90_000L);
+	}
+}
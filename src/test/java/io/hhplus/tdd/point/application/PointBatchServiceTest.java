@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+class PointBatchServiceTest {
+	private static final int PARALLELISM = 8;
+	private static final int MAX_ITEMS = 10_000;
+
+	private PrimitiveUserPointStore userPointStore;
+	private PointBatchService pointBatchService;
+
+	@BeforeEach
+	void setUp() {
+		userPointStore = new PrimitiveUserPointStore(4, 16);
+		PointHistoryRecorder pointHistoryRecorder = new DirectPointHistoryRecorder(new ConcurrentPointHistoryTable(0L));
+		UserLockManager userLockManager = new UserLockManager(new StripedLockPool(1024));
+		pointBatchService = new PointBatchService(
+			new ReentrantLockedPointChargeService(pointHistoryRecorder, userPointStore, userLockManager,
+				PointTransactionLog.NO_OP, PointStageTimer.NO_OP, PointPolicyResolver.DEFAULT),
+			new ReentrantLockedPointUseService(userPointStore, pointHistoryRecorder, userLockManager,
+				PointTransactionLog.NO_OP, PointStageTimer.NO_OP, PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP),
+			PARALLELISM, MAX_ITEMS, Thread::new);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointBatchService.close();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 여러 회원의 요청을 병렬로 처리하더라도 같은 회원의 요청은 요청된 순서대로 처리되는지 확인하고자 작성했습니다.
+	 * 충전 후 사용 순서가 바뀌면 잔액이 부족하여 사용 요청이 실패합니다.
+	 */
+	@Test
+	void 같은_회원의_충전과_사용_요청은_요청된_순서대로_처리된다() {
+		// given
+		final int userCount = 100;
+		final List<PointBatchService.Item> items = new ArrayList<>();
+		for (int round = 0; round < 10; round++) {
+			for (long userId = 0; userId < userCount; userId++) {
+				items.add(new PointBatchService.Item(userId, 1000L, TransactionType.CHARGE));
+				items.add(new PointBatchService.Item(userId, 1000L, TransactionType.USE));
+			}
+		}
+
+		// when
+		List<PointBatchService.ItemResult> results = pointBatchService.execute(items);
+
+		// then
+		assertThat(results).hasSize(items.size());
+		for (int index = 0; index < items.size(); index++) {
+			PointBatchService.ItemResult result = results.get(index);
+			assertThat(result.userId()).isEqualTo(items.get(index).userId());
+			assertThat(result.type()).isEqualTo(items.get(index).type());
+			assertThat(result.error()).isNull();
+			assertThat(result.userPoint().point())
+				.isEqualTo(items.get(index).type() == TransactionType.CHARGE ? 1000L : 0L);
+		}
+	}
+
+	/**
+	 * [작성 이유]
+	 * 일부 요청이 검증에 실패하더라도 나머지 요청은 처리되고, 요청별로 실패 사유를 응답하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 일부_요청이_실패해도_나머지_요청은_처리하고_요청별_결과를_응답한다() {
+		// given
+		final List<PointBatchService.Item> items = List.of(
+			new PointBatchService.Item(1L, 1000L, TransactionType.CHARGE),
+			new PointBatchService.Item(2L, 1000L, TransactionType.USE),
+			new PointBatchService.Item(1L, 500L, TransactionType.USE));
+
+		// when
+		List<PointBatchService.ItemResult> results = pointBatchService.execute(items);
+
+		// then
+		assertThat(results.get(0).userPoint().point()).isEqualTo(1000L);
+		assertThat(results.get(1).userPoint()).isNull();
+		assertThat(results.get(1).error()).isEqualTo("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
+		assertThat(results.get(2).userPoint().point()).isEqualTo(500L);
+		assertThat(userPointStore.pointOf(1L)).isEqualTo(500L);
+		assertThat(userPointStore.pointOf(2L)).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 한 번에 처리할 수 있는 최대 건수를 초과하면 어떤 요청도 처리하지 않고 실패하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 최대_건수를_초과하면_요청을_처리하지_않는다() {
+		// given
+		final List<PointBatchService.Item> items = new ArrayList<>();
+		for (int index = 0; index <= MAX_ITEMS; index++) {
+			items.add(new PointBatchService.Item(index, 1000L, TransactionType.CHARGE));
+		}
+
+		// when & then
+		assertThatThrownBy(() -> pointBatchService.execute(items))
+			.isInstanceOf(ApplicationException.class);
+		assertThat(userPointStore.size()).isZero();
+	}
+}
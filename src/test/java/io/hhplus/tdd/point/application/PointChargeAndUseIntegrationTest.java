@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+class PointChargeAndUseIntegrationTest {
+	private PointChargeService pointChargeService;
+	private PointUseService pointUseService;
+	private UserPointTable userPointTable;
+	private ConcurrentPointHistoryTable pointHistoryTable;
+
+	@BeforeEach
+	void setUp() {
+		userPointTable = new UserPointTable();
+		// 내역은 잠금 밖에서 동시에 기록되므로, 동시에 기록해도 유실되지 않는 테이블을 사용합니다.
+		pointHistoryTable = new ConcurrentPointHistoryTable();
+		UserLockManager userLockManager = new UserLockManager(new StripedLockPool(16));
+		UserPointStore userPointStore = new UserPointTableStore(userPointTable);
+		pointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), userPointStore, userLockManager,
+			PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT);
+		pointUseService = new ReentrantLockedPointUseService(
+			userPointStore, new DirectPointHistoryRecorder(pointHistoryTable), userLockManager,
+			PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 동일한 회원의 포인트 충전과 사용이 동시에 요청됐을 때, 서로 다른 기능 간에 Lost Update가 발생하지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 동일한_회원이_1000_포인트_충전과_사용을_동시에_10번씩_요청할_경우_기존_포인트가_유지된다() throws InterruptedException {
+		// given
+		final int requestCountPerType = 10;
+		final int threadCount = requestCountPerType * 2;
+		final long userId = 123L;
+		final long amount = 1000L;
+		final long originPointBalance = 10_000L;
+		userPointTable.insertOrUpdate(userId, originPointBalance);
+
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		IntStream.range(0, threadCount)
+			.forEach((index) -> executorService.execute(() -> {
+				try {
+					if (index % 2 == 0) {
+						pointChargeService.execute(
+							new PointChargeService.Command(userId, amount, System.currentTimeMillis()));
+					} else {
+						pointUseService.execute(
+							new PointUseService.Command(userId, amount, System.currentTimeMillis()));
+					}
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		countDownLatch.await();
+
+		// then
+		UserPoint userPoint = userPointTable.selectById(userId);
+		assertThat(userPoint.point()).isEqualTo(originPointBalance);
+
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(userId);
+		assertThat(pointHistories).hasSize(threadCount);
+		assertThat(pointHistories.stream().filter(history -> history.type() == TransactionType.CHARGE).count())
+			.isEqualTo(requestCountPerType);
+	}
+}
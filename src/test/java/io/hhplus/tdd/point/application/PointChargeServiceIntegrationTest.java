@@ -12,9 +12,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
 
 public class PointChargeServiceIntegrationTest {
 	private PointChargeService pointChargeService;
@@ -28,7 +33,10 @@ public class PointChargeServiceIntegrationTest {
 		// pointChargeService = new NonThreadSafePointChargeService(pointHistoryTable, userPointTable);
 		// pointChargeService = new SynchronizedPointChargeService(pointHistoryTable, userPointTable);
 		// pointChargeService = new SynchronizedKeywordPointChargeService(pointHistoryTable, userPointTable);
-		pointChargeService = new ReentrantLockedPointChargeService(pointHistoryTable, userPointTable);
+		pointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), new UserPointTableStore(userPointTable),
+			new UserLockManager(new StripedLockPool(16)), PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT);
 	}
 
 	/**
@@ -3,6 +3,9 @@ package io.hhplus.tdd.point.application;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,11 +13,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
 
 @ExtendWith(MockitoExtension.class)
 public class PointChargeServiceTest {
@@ -22,11 +29,14 @@ public class PointChargeServiceTest {
 	@Mock
 	private PointHistoryTable pointHistoryTable;
 	@Mock
-	private UserPointTable userPointTable;
+	private UserPointStore userPointStore;
 
 	@BeforeEach
 	void setUp() {
-		pointChargeService = new ReentrantLockedPointChargeService(pointHistoryTable, userPointTable);
+		pointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), userPointStore,
+			new UserLockManager(new StripedLockPool(16)), PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT);
 	}
 
 	/**
@@ -40,10 +50,10 @@ public class PointChargeServiceTest {
 		final long amount = 50_000L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint.empty(userId));
 
-		given(userPointTable.insertOrUpdate(userId, amount))
+		given(userPointStore.insertOrUpdate(userId, amount))
 			.willReturn(UserPoint.builder()
 				.id(userId)
 				.updateMillis(currentTimeMillis)
@@ -81,7 +91,7 @@ public class PointChargeServiceTest {
 		final long amount = 1_000_001L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint.empty(userId));
 
 		PointChargeService.Command command = new PointChargeService.Command(userId, amount,
@@ -107,7 +117,7 @@ public class PointChargeServiceTest {
 		final long currentTimeMillis = System.currentTimeMillis();
 		final long currentPoint = 10_000_000L;
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
@@ -136,7 +146,7 @@ public class PointChargeServiceTest {
 		final long amount = 0L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint.empty(122L));
 
 		NonThreadSafePointChargeService.Command command = new NonThreadSafePointChargeService.Command(userId, amount,
@@ -150,4 +160,76 @@ public class PointChargeServiceTest {
 			.hasMessage("1 포인트 이상부터 충전이 가능합니다.");
 	}
 
+	/**
+	 * [작성 이유]
+	 * 충전 한 건을 처리하면 잠금 대기부터 내역 기록까지 모든 단계의 소요 시간이 한 번씩 기록되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 충전하면_모든_단계의_소요_시간이_한_번씩_기록된다() {
+		// given
+		final long userId = 2323L;
+		final long amount = 50_000L;
+		final long currentTimeMillis = System.currentTimeMillis();
+		final List<PointStageTimer.Stage> stages = new ArrayList<>();
+		PointChargeService stageTimedPointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), userPointStore,
+			new UserLockManager(new StripedLockPool(16)), PointTransactionLog.NO_OP, (type, stage, nanos) -> {
+				assertThat(type).isEqualTo(TransactionType.CHARGE);
+				assertThat(nanos).isGreaterThanOrEqualTo(0L);
+				stages.add(stage);
+			}, PointPolicyResolver.DEFAULT);
+
+		given(userPointStore.selectById(userId))
+			.willReturn(UserPoint.empty(userId));
+		given(userPointStore.insertOrUpdate(userId, amount))
+			.willReturn(new UserPoint(userId, amount, currentTimeMillis));
+
+		// when
+		stageTimedPointChargeService.execute(new PointChargeService.Command(userId, amount, currentTimeMillis));
+
+		// then
+		assertThat(stages).containsExactlyInAnyOrder(PointStageTimer.Stage.values());
+	}
+
+	/**
+	 * [작성 이유]
+	 * 로그에 기록한 뒤 잔액 저장에 실패하면 실패로 응답한 충전이 다시 시작할 때 복구되면 안 되므로,
+	 * 로그에 반대 방향의 내역이 기록되어 상쇄되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잔액_저장에_실패하면_로그에_반대_방향의_내역을_기록하여_상쇄한다() {
+		// given
+		final long userId = 2323L;
+		final long amount = 50_000L;
+		final long currentTimeMillis = System.currentTimeMillis();
+		final List<PointTransactionLog.Entry> entries = new ArrayList<>();
+		PointTransactionLog recordingPointTransactionLog = new PointTransactionLog() {
+			@Override
+			public void append(Entry entry) {
+				entries.add(entry);
+			}
+
+			@Override
+			public void appendAll(List<Entry> appendedEntries) {
+				entries.addAll(appendedEntries);
+			}
+		};
+		PointChargeService loggedPointChargeService = new ReentrantLockedPointChargeService(
+			new DirectPointHistoryRecorder(pointHistoryTable), userPointStore,
+			new UserLockManager(new StripedLockPool(16)), recordingPointTransactionLog, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT);
+
+		given(userPointStore.selectById(userId))
+			.willReturn(UserPoint.empty(userId));
+		given(userPointStore.insertOrUpdate(userId, amount))
+			.willThrow(new IllegalStateException("잔액을 저장할 수 없습니다."));
+
+		// when & then
+		assertThatThrownBy(() -> loggedPointChargeService.execute(
+			new PointChargeService.Command(userId, amount, currentTimeMillis)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(entries).containsExactly(
+			new PointTransactionLog.Entry(userId, TransactionType.CHARGE, amount, currentTimeMillis),
+			new PointTransactionLog.Entry(userId, TransactionType.USE, amount, currentTimeMillis));
+	}
 }
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class PointHistoryExportServiceTest {
+	private static final int HISTORY_COUNT = 1_000_000;
+	private static final int SAMPLE_INTERVAL = 100_000;
+	private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+	/**
+	 * [작성 이유]
+	 * 내역이 100만 건이어도 전체 목록이나 전체 응답을 메모리에 만들지 않고, 한 페이지씩 흘려보내 힙 사용량이 일정하게 유지되는지 확인하고자 작성했습니다.
+	 * 실제 IndexedPointHistoryTable에 내역 100만 건을 기록한 뒤, 기록을 마친 시점의 힙 사용량을 기준으로 삼습니다.
+	 * 전체 목록이나 그 JSON(약 90MB)을 한 번에 들고 있으면 힙이 수십~수백 MB 늘어나므로, 증가량이 32MB 이내인지 확인합니다.
+	 */
+	@Test
+	void 내역이_100만_건이어도_힙_사용량이_늘어나지_않은_채로_모두_내보낸다() throws IOException {
+		// given
+		final long userId = 123L;
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+		for (long updateMillis = 1; updateMillis <= HISTORY_COUNT; updateMillis++) {
+			pointHistoryTable.insert(userId, 1000L, TransactionType.CHARGE, updateMillis);
+		}
+		PointHistoryExportService pointHistoryExportService = new PointHistoryExportService(
+			new PointHistoryReadAllByUserIdService(pointHistoryTable), new ObjectMapper());
+		HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream();
+		final long baseline = usedHeap();
+
+		// when
+		pointHistoryExportService.export(userId, outputStream);
+
+		// then
+		assertThat(outputStream.lineCount).isEqualTo(HISTORY_COUNT);
+		assertThat(outputStream.firstLine()).contains("\"id\":" + HISTORY_COUNT);
+		long peakHeap = outputStream.heapSamples.stream().mapToLong(Long::longValue).max().orElseThrow();
+		assertThat(peakHeap - baseline).isLessThan(MAX_HEAP_GROWTH_BYTES);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 한 줄에 하나의 내역이 id 내림차순으로 기록되는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 한_줄에_하나의_내역을_id_내림차순으로_기록한다() throws IOException {
+		// given
+		final long userId = 123L;
+		IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable(0L);
+		pointHistoryTable.insert(userId, 1000L, TransactionType.CHARGE, 1L);
+		pointHistoryTable.insert(userId, 500L, TransactionType.USE, 2L);
+		PointHistoryExportService pointHistoryExportService = new PointHistoryExportService(
+			new PointHistoryReadAllByUserIdService(pointHistoryTable), new ObjectMapper());
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		pointHistoryExportService.export(userId, outputStream);
+
+		// then
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		ObjectMapper objectMapper = new ObjectMapper();
+		assertThat(lines).hasSize(2);
+		assertThat(objectMapper.readValue(lines[0], PointHistory.class).type()).isEqualTo(TransactionType.USE);
+		assertThat(objectMapper.readValue(lines[1], PointHistory.class).type()).isEqualTo(TransactionType.CHARGE);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * 받은 내용을 보관하지 않고 줄 수만 세며, SAMPLE_INTERVAL 줄마다 힙 사용량을 기록합니다.
+	 */
+	private static class HeapSamplingOutputStream extends OutputStream {
+		private final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+		private final List<Long> heapSamples = new ArrayList<>();
+		private long lineCount = 0;
+
+		@Override
+		public void write(int b) {
+			if (lineCount == 0 && b != '\n') {
+				firstLine.write(b);
+			}
+			if (b == '\n') {
+				lineCount++;
+				if (lineCount % SAMPLE_INTERVAL == 0) {
+					heapSamples.add(usedHeap());
+				}
+			}
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			for (int index = offset; index < offset + length; index++) {
+				write(bytes[index]);
+			}
+		}
+
+		String firstLine() {
+			return firstLine.toString(StandardCharsets.UTF_8);
+		}
+	}
+}
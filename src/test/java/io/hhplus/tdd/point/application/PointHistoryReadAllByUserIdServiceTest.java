@@ -11,7 +11,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.global.exception.ApplicationException;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.enums.TransactionType;
 
@@ -21,7 +22,7 @@ class PointHistoryReadAllByUserIdServiceTest {
 	private PointHistoryReadAllByUserIdService pointHistoryReadAllByUserIdService;
 
 	@Mock
-	private PointHistoryTable pointHistoryTable;
+	private IndexedPointHistoryTable pointHistoryTable;
 
 	/**
 	 * [작성 이유]
@@ -33,8 +34,15 @@ class PointHistoryReadAllByUserIdServiceTest {
 		final long userId = 123L;
 		final long timeMillisWhenCharge = System.currentTimeMillis();
 		final long timeMillisWhenUse = timeMillisWhenCharge + 100_000L;
-		given(pointHistoryTable.selectAllByUserId(userId))
+		given(pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId))
 			.willReturn(List.of(
+				PointHistory.builder()
+					.id(2L)
+					.amount(1000L)
+					.userId(userId)
+					.type(TransactionType.USE)
+					.updateMillis(timeMillisWhenUse)
+					.build(),
 				PointHistory
 					.builder()
 					.id(1L)
@@ -42,13 +50,6 @@ class PointHistoryReadAllByUserIdServiceTest {
 					.userId(userId)
 					.type(TransactionType.CHARGE)
 					.updateMillis(timeMillisWhenCharge)
-					.build(),
-				PointHistory.builder()
-					.id(2L)
-					.amount(1000L)
-					.userId(userId)
-					.type(TransactionType.USE)
-					.updateMillis(timeMillisWhenUse)
 					.build()
 			));
 		// when
@@ -76,7 +77,7 @@ class PointHistoryReadAllByUserIdServiceTest {
 	void 포인트_이용_내역이_없을_경우_빈_리스트를_반환한다() {
 		// given
 		final long userId = 123L;
-		given(pointHistoryTable.selectAllByUserId(userId))
+		given(pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId))
 			.willReturn(List.of());
 		// when
 		List<PointHistory> pointHistories = pointHistoryReadAllByUserIdService.read(userId);
@@ -85,4 +86,70 @@ class PointHistoryReadAllByUserIdServiceTest {
 		assertThat(pointHistories).hasSize(0);
 	}
 
+	/**
+	 * [작성 이유]
+	 * 조회할 내역이 limit건보다 많은 경우 limit건만 반환하고, 마지막 내역의 id를 다음 cursor로 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 다음_페이지가_있으면_마지막_내역의_id를_다음_cursor로_반환한다() {
+		// given
+		final long userId = 123L;
+		final int limit = 2;
+		given(pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId, 10L, limit + 1))
+			.willReturn(List.of(history(9L, userId), history(8L, userId), history(7L, userId)));
+
+		// when
+		PointHistoryReadAllByUserIdService.Page page = pointHistoryReadAllByUserIdService.read(userId, 10L, limit);
+
+		// then
+		assertThat(page.histories()).extracting("id")
+			.containsExactly(9L, 8L);
+		assertThat(page.nextCursor()).isEqualTo(8L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 마지막 페이지에서는 다음 cursor를 반환하지 않는지, beforeId가 없으면 가장 최신 내역부터 조회하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 마지막_페이지는_다음_cursor를_반환하지_않는다() {
+		// given
+		final long userId = 123L;
+		final int limit = 2;
+		given(pointHistoryTable.selectAllByUserIdOrderByIdDesc(userId, Long.MAX_VALUE, limit + 1))
+			.willReturn(List.of(history(2L, userId), history(1L, userId)));
+
+		// when
+		PointHistoryReadAllByUserIdService.Page page = pointHistoryReadAllByUserIdService.read(userId, null, limit);
+
+		// then
+		assertThat(page.histories()).extracting("id")
+			.containsExactly(2L, 1L);
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 한 번에 너무 많은 내역을 조회하여 응답이 커지지 않도록 limit 범위를 검증하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 조회할_수_있는_최대_건수를_초과하면_예외를_발생시킨다() {
+		// given
+		final long userId = 123L;
+		final int limit = PointHistoryReadAllByUserIdService.MAX_LIMIT + 1;
+
+		// when & then
+		assertThatThrownBy(() -> pointHistoryReadAllByUserIdService.read(userId, null, limit))
+			.isInstanceOf(ApplicationException.class);
+	}
+
+	private PointHistory history(long id, long userId) {
+		return PointHistory.builder()
+			.id(id)
+			.amount(1000L)
+			.userId(userId)
+			.type(TransactionType.CHARGE)
+			.updateMillis(System.currentTimeMillis())
+			.build();
+	}
 }
@@ -9,7 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.point.domain.UserPoint;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,7 +18,7 @@ class PointReadByIdServiceTest {
 	private PointReadByIdService pointReadByIdService;
 
 	@Mock
-	private UserPointTable userPointTable;
+	private UserPointStore userPointStore;
 
 	/**
 	 * [작성 이유]
@@ -31,7 +31,7 @@ class PointReadByIdServiceTest {
 		final long updateMillis = System.currentTimeMillis();
 		final long point = 10_000L;
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
@@ -57,7 +57,7 @@ class PointReadByIdServiceTest {
 		// given
 		final long notExistingUserId = 120L;
 
-		given(userPointTable.selectById(notExistingUserId))
+		given(userPointStore.selectById(notExistingUserId))
 			.willReturn(UserPoint.empty(notExistingUserId));
 
 		// when
@@ -12,9 +12,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
 
 class PointUseServiceIntegrationTest {
 	private PointUseService pointUseService;
@@ -25,7 +30,10 @@ class PointUseServiceIntegrationTest {
 	void setUp() {
 		pointHistoryTable = new PointHistoryTable();
 		userPointTable = new UserPointTable();
-		pointUseService = new ReentrantLockedPointUseService(userPointTable, pointHistoryTable);
+		pointUseService = new ReentrantLockedPointUseService(
+			new UserPointTableStore(userPointTable), new DirectPointHistoryRecorder(pointHistoryTable),
+			new UserLockManager(new StripedLockPool(16)), PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
 	}
 
 	/**
@@ -10,11 +10,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
 
 @ExtendWith(MockitoExtension.class)
 class PointUseServiceTest {
@@ -22,11 +26,14 @@ class PointUseServiceTest {
 	@Mock
 	private PointHistoryTable pointHistoryTable;
 	@Mock
-	private UserPointTable userPointTable;
+	private UserPointStore userPointStore;
 
 	@BeforeEach
 	void setUp() {
-		pointUseService = new ReentrantLockedPointUseService(userPointTable, pointHistoryTable);
+		pointUseService = new ReentrantLockedPointUseService(
+			userPointStore, new DirectPointHistoryRecorder(pointHistoryTable),
+			new UserLockManager(new StripedLockPool(16)), PointTransactionLog.NO_OP, PointStageTimer.NO_OP,
+			PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
 	}
 
 	/**
@@ -42,7 +49,7 @@ class PointUseServiceTest {
 		final long newPointBalance = 0L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
@@ -59,7 +66,7 @@ class PointUseServiceTest {
 				.updateMillis(currentTimeMillis)
 				.build());
 
-		given(userPointTable.insertOrUpdate(userId, newPointBalance))
+		given(userPointStore.insertOrUpdate(userId, newPointBalance))
 			.willReturn(
 				UserPoint.builder()
 					.id(userId)
@@ -91,7 +98,7 @@ class PointUseServiceTest {
 		final long originPointBalance = 50_000L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
@@ -119,7 +126,7 @@ class PointUseServiceTest {
 		final long originPointBalance = 50_000L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
@@ -147,7 +154,7 @@ class PointUseServiceTest {
 		final long originPointBalance = 5_000_000L;
 		final long currentTimeMillis = System.currentTimeMillis();
 
-		given(userPointTable.selectById(userId))
+		given(userPointStore.selectById(userId))
 			.willReturn(UserPoint
 				.builder()
 				.id(userId)
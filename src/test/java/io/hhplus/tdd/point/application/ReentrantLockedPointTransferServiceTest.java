@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.global.lock.StripedLockPool;
+import io.hhplus.tdd.global.lock.UserLockManager;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+class ReentrantLockedPointTransferServiceTest {
+	private final PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(4, 16);
+	private final ConcurrentPointHistoryTable pointHistoryTable = new ConcurrentPointHistoryTable(0L);
+
+	/**
+	 * [작성 이유]
+	 * 두 회원이 서로에게 동시에 선물하더라도 잠금을 같은 순서로 획득하여 교착 상태에 빠지지 않고,
+	 * 모든 선물이 반영되는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 두_회원이_서로에게_동시에_100번씩_선물해도_교착_상태_없이_모두_반영된다() throws InterruptedException {
+		// given
+		final int threadCount = 200;
+		final long firstUserId = 1L;
+		final long secondUserId = 2L;
+		final long amount = 1000L;
+		userPointStore.insertOrUpdate(firstUserId, 100_000L);
+		userPointStore.insertOrUpdate(secondUserId, 100_000L);
+		PointTransferService pointTransferService = createPointTransferService(1024);
+
+		// when
+		final boolean completed = runConcurrently(threadCount, (index) -> pointTransferService.execute(
+			index % 2 == 0
+				? new PointTransferService.Command(firstUserId, secondUserId, amount, System.currentTimeMillis())
+				: new PointTransferService.Command(secondUserId, firstUserId, amount, System.currentTimeMillis())));
+
+		// then
+		assertThat(completed).isTrue();
+		assertThat(userPointStore.pointOf(firstUserId)).isEqualTo(100_000L);
+		assertThat(userPointStore.pointOf(secondUserId)).isEqualTo(100_000L);
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(firstUserId);
+		assertThat(pointHistories).hasSize(threadCount);
+		assertThat(pointHistories.stream().filter(history -> history.type() == TransactionType.USE).count())
+			.isEqualTo(threadCount / 2);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 서로 다른 회원이 같은 stripe를 공유하도록 stripe 수를 줄이고 임의의 회원끼리 동시에 선물하더라도
+	 * 교착 상태에 빠지지 않고, 전체 회원의 포인트 합계가 유지되는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 임의의_회원끼리_동시에_선물해도_교착_상태_없이_전체_포인트_합계가_유지된다() throws InterruptedException {
+		// given
+		final int threadCount = 1_000;
+		final int userCount = 16;
+		// 모든 선물을 한 회원이 보내더라도 잔액이 부족하지 않도록 충분히 충전해 둡니다.
+		final long originPointBalance = 1_000_000L;
+		LongStream.range(0, userCount).forEach(userId -> userPointStore.insertOrUpdate(userId, originPointBalance));
+		PointTransferService pointTransferService = createPointTransferService(4);
+
+		// when
+		final boolean completed = runConcurrently(threadCount, (index) -> {
+			final long senderId = ThreadLocalRandom.current().nextInt(userCount);
+			final long receiverId = (senderId + 1 + ThreadLocalRandom.current().nextInt(userCount - 1)) % userCount;
+			pointTransferService.execute(
+				new PointTransferService.Command(senderId, receiverId, 1000L, System.currentTimeMillis()));
+		});
+
+		// then
+		assertThat(completed).isTrue();
+		final long totalPoint = LongStream.range(0, userCount).map(userPointStore::pointOf).sum();
+		assertThat(totalPoint).isEqualTo(userCount * originPointBalance);
+		assertThat(pointHistoryTable.size()).isEqualTo(threadCount * 2L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 보내는 회원의 잔액이 부족하면 받는 회원의 포인트도 변경되지 않고, 내역도 기록되지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 보내는_회원의_잔액이_부족하면_두_회원의_포인트_모두_변경되지_않는다() {
+		// given
+		final long senderId = 1L;
+		final long receiverId = 2L;
+		userPointStore.insertOrUpdate(senderId, 500L);
+		userPointStore.insertOrUpdate(receiverId, 1000L);
+		PointTransferService pointTransferService = createPointTransferService(1024);
+
+		// when & then
+		assertThatThrownBy(() -> pointTransferService.execute(
+			new PointTransferService.Command(senderId, receiverId, 1000L, System.currentTimeMillis())))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
+		assertThat(userPointStore.pointOf(senderId)).isEqualTo(500L);
+		assertThat(userPointStore.pointOf(receiverId)).isEqualTo(1000L);
+		assertThat(pointHistoryTable.size()).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 자기 자신에게 선물하는 요청은 잔액을 바꾸지 않고 실패하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 자기_자신에게_선물할_수_없다() {
+		// given
+		final long userId = 1L;
+		userPointStore.insertOrUpdate(userId, 1000L);
+		PointTransferService pointTransferService = createPointTransferService(1024);
+
+		// when & then
+		assertThatThrownBy(() -> pointTransferService.execute(
+			new PointTransferService.Command(userId, userId, 1000L, System.currentTimeMillis())))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("자기 자신에게 포인트를 선물할 수 없습니다.");
+		assertThat(userPointStore.pointOf(userId)).isEqualTo(1000L);
+	}
+
+	private PointTransferService createPointTransferService(int stripeCount) {
+		return new ReentrantLockedPointTransferService(userPointStore,
+			new DirectPointHistoryRecorder(pointHistoryTable), new UserLockManager(new StripedLockPool(stripeCount)),
+			PointTransactionLog.NO_OP, PointPolicyResolver.DEFAULT, PointSpendLimiter.NO_OP);
+	}
+
+	/**
+	 * 모든 요청이 10초 안에 끝나면 true를 반환합니다.
+	 */
+	private static boolean runConcurrently(int threadCount, IntConsumer request)
+		throws InterruptedException {
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(64);
+		IntStream.range(0, threadCount)
+			.forEach((index) -> executorService.execute(() -> {
+				try {
+					startLatch.await();
+					request.accept(index);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					countDownLatch.countDown();
+				}
+			}));
+		startLatch.countDown();
+		final boolean completed = countDownLatch.await(10, TimeUnit.SECONDS);
+		executorService.shutdownNow();
+		return completed;
+	}
+}
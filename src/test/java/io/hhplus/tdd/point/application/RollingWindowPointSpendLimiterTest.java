@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.global.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.domain.PointValidationException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
+
+class RollingWindowPointSpendLimiterTest {
+	private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+	private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1L);
+
+	/**
+	 * [작성 이유]
+	 * 하루 한도를 넘는 사용은 거절하고, zoneOffset 기준으로 날짜가 바뀌면 다시 사용할 수 있는지 확인하고자 작성했습니다.
+	 * UTC 14:59는 +09:00 기준 23:59이고, UTC 15:00은 다음 날 00:00입니다.
+	 */
+	@Test
+	void 하루_한도를_넘으면_거절하고_날짜가_바뀌면_다시_사용할_수_있다() {
+		// given
+		final long userId = 1L;
+		final long beforeMidnight = 14 * HOUR_MILLIS + 59 * MINUTE_MILLIS;
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(10_000L, 0L, 12,
+			ZoneOffset.ofHours(9), 100L);
+		pointSpendLimiter.consume(userId, 6_000L, 0L);
+		pointSpendLimiter.consume(userId, 4_000L, beforeMidnight - 10 * HOUR_MILLIS);
+
+		// when & then
+		assertThatThrownBy(() -> pointSpendLimiter.consume(userId, 1L, beforeMidnight))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage(PointErrorCode.DAILY_SPEND_LIMIT_EXCEEDED.message());
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 10_000L, beforeMidnight + MINUTE_MILLIS))
+			.doesNotThrowAnyException();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 최근 1시간 한도는 구간 단위로 미끄러지므로, 가장 오래된 구간이 1시간을 넘어 비워진 만큼만 다시 사용할 수 있는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 최근_1시간_한도는_1시간이_지난_구간의_사용만큼_다시_사용할_수_있다() {
+		// given
+		final long userId = 1L;
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(0L, 1_000L, 12,
+			ZoneOffset.UTC, 100L);
+		pointSpendLimiter.consume(userId, 300L, 0L);
+		pointSpendLimiter.consume(userId, 700L, 30 * MINUTE_MILLIS);
+
+		// when & then
+		assertThatThrownBy(() -> pointSpendLimiter.consume(userId, 1L, 59 * MINUTE_MILLIS))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage(PointErrorCode.HOURLY_SPEND_LIMIT_EXCEEDED.message());
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 300L, HOUR_MILLIS))
+			.doesNotThrowAnyException();
+		assertThatThrownBy(() -> pointSpendLimiter.consume(userId, 1L, HOUR_MILLIS + MINUTE_MILLIS))
+			.isInstanceOf(PointValidationException.class);
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 700L, HOUR_MILLIS + 30 * MINUTE_MILLIS))
+			.doesNotThrowAnyException();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잔액 저장이 실패하여 refund()를 호출하면, 더했던 포인트가 하루/최근 1시간 합계에서 모두 빠지는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 되돌린_포인트는_다시_사용할_수_있다() {
+		// given
+		final long userId = 1L;
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(1_000L, 1_000L, 12,
+			ZoneOffset.UTC, 100L);
+		final PointSpendLimiter.Consumption consumption = pointSpendLimiter.consume(userId, 1_000L, 0L);
+
+		// when
+		pointSpendLimiter.refund(userId, 1_000L, consumption);
+
+		// then
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 1_000L, MINUTE_MILLIS))
+			.doesNotThrowAnyException();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 요청 시각이 가장 최근 구간보다 이전이어서 가장 최근 구간에 더한 포인트를 되돌리면,
+	 * 요청 시각의 구간이 아니라 실제로 더했던 구간에서 빠지는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 이전_시각의_사용을_되돌리면_실제로_더했던_구간에서_뺀다() {
+		// given
+		final long userId = 1L;
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(0L, 1_000L, 12,
+			ZoneOffset.UTC, 100L);
+		pointSpendLimiter.consume(userId, 400L, 10 * MINUTE_MILLIS);
+		final PointSpendLimiter.Consumption consumption = pointSpendLimiter.consume(userId, 600L, 0L);
+
+		// when
+		pointSpendLimiter.refund(userId, 600L, consumption);
+
+		// then
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 600L, 11 * MINUTE_MILLIS))
+			.doesNotThrowAnyException();
+		assertThatThrownBy(() -> pointSpendLimiter.consume(userId, 1L, 12 * MINUTE_MILLIS))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage(PointErrorCode.HOURLY_SPEND_LIMIT_EXCEEDED.message());
+		assertThatCode(() -> pointSpendLimiter.consume(userId, 1_000L, HOUR_MILLIS + 10 * MINUTE_MILLIS))
+			.doesNotThrowAnyException();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 기록을 보관 중인 회원 수가 최대에 도달하면 기존 회원의 기록을 삭제하여 한도를 풀어주지 않고,
+	 * 기록이 없는 회원의 사용을 429로 거절하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 최대_회원_수에_도달하면_기존_기록을_지우지_않고_새_회원의_사용을_거절한다() {
+		// given
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(1_000L, 0L, 12,
+			ZoneOffset.UTC, 2L);
+		pointSpendLimiter.consume(1L, 1_000L, 0L);
+		pointSpendLimiter.consume(2L, 1_000L, 0L);
+
+		// when & then
+		assertThatThrownBy(() -> pointSpendLimiter.consume(3L, 1L, MINUTE_MILLIS))
+			.isInstanceOf(TooManyRequestsException.class);
+		assertThatThrownBy(() -> pointSpendLimiter.consume(1L, 1L, MINUTE_MILLIS))
+			.isInstanceOf(PointValidationException.class)
+			.hasMessage(PointErrorCode.DAILY_SPEND_LIMIT_EXCEEDED.message());
+		assertThat(pointSpendLimiter.userCount()).isEqualTo(2L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 처음 사용하는 회원의 요청이 한도를 넘어 거절되면, 그 회원의 기록을 만들지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 거절된_첫_사용은_회원의_기록을_만들지_않는다() {
+		// given
+		RollingWindowPointSpendLimiter pointSpendLimiter = new RollingWindowPointSpendLimiter(1_000L, 0L, 12,
+			ZoneOffset.UTC, 100L);
+
+		// when & then
+		assertThatThrownBy(() -> pointSpendLimiter.consume(1L, 1_001L, 0L))
+			.isInstanceOf(PointValidationException.class);
+		assertThat(pointSpendLimiter.userCount()).isZero();
+	}
+}
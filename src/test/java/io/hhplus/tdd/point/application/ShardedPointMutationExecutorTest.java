@@ -0,0 +1,263 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTransactionLog;
+import io.hhplus.tdd.database.PrimitiveUserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableStore;
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+import io.hhplus.tdd.point.domain.policy.PointPolicyResolver;
+
+class ShardedPointMutationExecutorTest {
+	private ShardedPointMutationExecutor shardedPointMutationExecutor;
+	private ShardedPointChargeService pointChargeService;
+	private ShardedPointUseService pointUseService;
+	private UserPointTable userPointTable;
+	private PointHistoryTable pointHistoryTable;
+
+	@BeforeEach
+	void setUp() {
+		userPointTable = new UserPointTable();
+		pointHistoryTable = new PointHistoryTable();
+		shardedPointMutationExecutor = new ShardedPointMutationExecutor(new UserPointTableStore(userPointTable),
+			new DirectPointHistoryRecorder(pointHistoryTable), 4);
+		pointChargeService = new ShardedPointChargeService(shardedPointMutationExecutor);
+		pointUseService = new ShardedPointUseService(shardedPointMutationExecutor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardedPointMutationExecutor.close();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 잠금 없이도 동일한 회원의 요청이 하나의 shard에서 접수된 순서대로 처리되어 Lost Update가 발생하지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 동일한_회원의_1000_포인트_충전_요청_10건은_접수된_순서대로_처리되어_10_000_포인트를_보유하게_된다() {
+		// given
+		final int requestCount = 10;
+		final long userId = 123L;
+		final long amount = 1000L;
+
+		// when
+		List<CompletableFuture<UserPoint>> futures = IntStream.range(0, requestCount)
+			.mapToObj((index) -> pointChargeService.submit(
+				new PointChargeService.Command(userId, amount, System.currentTimeMillis())))
+			.toList();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		// 내역 기록까지 끝나도록 shard를 종료합니다.
+		shardedPointMutationExecutor.close();
+
+		// then
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(amount * requestCount);
+		List<Long> pointBalances = futures.stream().map(future -> future.join().point()).toList();
+		assertThat(pointBalances).containsExactly(1000L, 2000L, 3000L, 4000L, 5000L, 6000L, 7000L, 8000L, 9000L, 10_000L);
+
+		List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(userId);
+		assertThat(pointHistories).hasSize(requestCount);
+	}
+
+	/**
+	 * [작성 이유]
+	 * shard에서 발생한 도메인 예외가 동기 방식으로 호출한 쪽에 그대로 전달되는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 보유하고_있는_포인트_보다_많은_포인트를_사용하려고_할_경우_예외를_발생시킨다() {
+		// given
+		final long userId = 123L;
+		userPointTable.insertOrUpdate(userId, 1000L);
+
+		// when & then
+		assertThatThrownBy(() -> {
+			pointUseService.execute(new PointUseService.Command(userId, 1001L, System.currentTimeMillis()));
+		})
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
+		assertThat(userPointTable.selectById(userId).point()).isEqualTo(1000L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * batching 모드에서 같은 회원의 요청이 한 번의 조회/저장으로 처리되고,
+	 * 검증에 실패한 요청만 실패하며 나머지 요청은 각자의 중간 잔액으로 응답받는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void batching_모드에서는_같은_회원의_요청을_한_번만_조회하고_저장한다() {
+		// given
+		final long blockingUserId = 1L;
+		final long userId = 123L;
+		final long amount = 1000L;
+		final GatedUserPointTable gatedUserPointTable = new GatedUserPointTable();
+		final ShardedPointMutationExecutor batchingExecutor = new ShardedPointMutationExecutor(
+			new UserPointTableStore(gatedUserPointTable), new DirectPointHistoryRecorder(pointHistoryTable), 1, 100);
+
+		// shard가 다른 회원의 요청을 처리하는 동안 같은 회원의 요청이 mailbox에 쌓이도록 합니다.
+		batchingExecutor.submit(chargeOf(blockingUserId, amount));
+		List<CompletableFuture<UserPoint>> futures = List.of(
+			batchingExecutor.submit(chargeOf(userId, amount)),
+			batchingExecutor.submit(chargeOf(userId, amount)),
+			batchingExecutor.submit(chargeOf(userId, amount)),
+			batchingExecutor.submit(useOf(userId, 5_000L)),
+			batchingExecutor.submit(chargeOf(userId, amount)),
+			batchingExecutor.submit(chargeOf(userId, amount))
+		);
+
+		// when
+		gatedUserPointTable.open();
+		batchingExecutor.close();
+
+		// then
+		assertThat(gatedUserPointTable.selectCount(userId)).isEqualTo(1);
+		assertThat(gatedUserPointTable.insertOrUpdateCount(userId)).isEqualTo(1);
+		assertThat(gatedUserPointTable.selectById(userId).point()).isEqualTo(5_000L);
+
+		assertThat(futures.get(0).join().point()).isEqualTo(1_000L);
+		assertThat(futures.get(1).join().point()).isEqualTo(2_000L);
+		assertThat(futures.get(2).join().point()).isEqualTo(3_000L);
+		assertThatThrownBy(() -> ShardedPointMutationExecutor.await(futures.get(3)))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("보유하고 있는 포인트 보다 많은 포인트를 사용할 수 없습니다.");
+		assertThat(futures.get(4).join().point()).isEqualTo(4_000L);
+		assertThat(futures.get(5).join().point()).isEqualTo(5_000L);
+
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(5);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 사용 요청을 묶어서 처리하더라도 요청마다 하루 한도를 검증하여, 한도를 넘는 요청만 실패로 응답하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 하루_한도가_10_000_포인트이면_1000_포인트_사용_요청_20건_중_10건만_성공한다() {
+		// given
+		final long userId = 123L;
+		PrimitiveUserPointStore userPointStore = new PrimitiveUserPointStore(16, 1024);
+		userPointStore.insertOrUpdate(userId, 100_000L);
+		ShardedPointMutationExecutor limitedPointMutationExecutor = new ShardedPointMutationExecutor(userPointStore,
+			new DirectPointHistoryRecorder(new ConcurrentPointHistoryTable(0L)), PointTransactionLog.NO_OP,
+			PointPolicyResolver.DEFAULT, new RollingWindowPointSpendLimiter(10_000L, 0L, 12, ZoneOffset.UTC, 16L),
+			2, 4, Thread::new);
+
+		// when
+		List<CompletableFuture<UserPoint>> futures = IntStream.range(0, 20)
+			.mapToObj((index) -> limitedPointMutationExecutor.submit(useOf(userId, 1000L)))
+			.toList();
+		long successCount = futures.stream()
+			.filter(future -> future.handle((userPoint, throwable) -> throwable == null).join())
+			.count();
+		limitedPointMutationExecutor.close();
+
+		// then
+		assertThat(successCount).isEqualTo(10L);
+		assertThat(userPointStore.selectById(userId).point()).isEqualTo(90_000L);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 요청이 접수되는 도중에 종료하더라도, 종료 신호 뒤에 들어간 요청의 결과를 기다리는 스레드가 영원히 멈추지 않고
+	 * 처리되거나 실패로 응답받는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 요청을_접수하는_도중에_종료해도_접수된_요청은_모두_응답받는다() throws Exception {
+		// given
+		final int threadCount = 4;
+		ShardedPointMutationExecutor closingPointMutationExecutor = new ShardedPointMutationExecutor(
+			new PrimitiveUserPointStore(16, 1024), new DirectPointHistoryRecorder(new ConcurrentPointHistoryTable(0L)),
+			2);
+		final ConcurrentLinkedQueue<CompletableFuture<UserPoint>> futures = new ConcurrentLinkedQueue<>();
+		CompletableFuture<?>[] producers = IntStream.range(0, threadCount)
+			.mapToObj((thread) -> CompletableFuture.runAsync(() -> {
+				while (true) {
+					try {
+						futures.add(closingPointMutationExecutor.submit(new ShardedPointMutationExecutor.Mutation(
+							thread, TransactionType.CHARGE, 1L, 0L)));
+					} catch (RejectedExecutionException e) {
+						return;
+					}
+				}
+			}))
+			.toArray(CompletableFuture[]::new);
+		Thread.sleep(50L);
+
+		// when
+		closingPointMutationExecutor.close();
+		CompletableFuture.allOf(producers).join();
+
+		// then
+		CompletableFuture<Boolean> responded = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+			.handle((result, throwable) -> true);
+		assertThat(responded.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * open() 되기 전까지 조회를 대기시키고, 사용자별 조회/저장 횟수를 기록하는 UserPointTable입니다.
+	 */
+	private ShardedPointMutationExecutor.Mutation chargeOf(long userId, long amount) {
+		return new ShardedPointMutationExecutor.Mutation(userId, TransactionType.CHARGE, amount,
+			System.currentTimeMillis());
+	}
+
+	private ShardedPointMutationExecutor.Mutation useOf(long userId, long amount) {
+		return new ShardedPointMutationExecutor.Mutation(userId, TransactionType.USE, amount,
+			System.currentTimeMillis());
+	}
+
+	private static class GatedUserPointTable extends UserPointTable {
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final Map<Long, AtomicInteger> userIdToSelectCount = new ConcurrentHashMap<>();
+		private final Map<Long, AtomicInteger> userIdToInsertOrUpdateCount = new ConcurrentHashMap<>();
+
+		@Override
+		public UserPoint selectById(Long id) {
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			userIdToSelectCount.computeIfAbsent(id, (userId) -> new AtomicInteger()).incrementAndGet();
+			return super.selectById(id);
+		}
+
+		@Override
+		public UserPoint insertOrUpdate(long id, long amount) {
+			userIdToInsertOrUpdateCount.computeIfAbsent(id, (userId) -> new AtomicInteger()).incrementAndGet();
+			return super.insertOrUpdate(id, amount);
+		}
+
+		void open() {
+			gate.countDown();
+		}
+
+		int selectCount(long userId) {
+			return userIdToSelectCount.getOrDefault(userId, new AtomicInteger()).get();
+		}
+
+		int insertOrUpdateCount(long userId) {
+			return userIdToInsertOrUpdateCount.getOrDefault(userId, new AtomicInteger()).get();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.enums.TransactionType;
+
+class WriteBehindPointHistoryRecorderTest {
+
+	/**
+	 * [작성 이유]
+	 * 내역을 비동기로 기록하더라도 요청한 순서가 유지되고, 종료 시점에 큐에 남은 내역이 유실되지 않는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 종료하면_큐에_남아_있는_내역을_요청한_순서대로_모두_기록한다() {
+		// given
+		final long userId = 123L;
+		final int requestCount = 10;
+		ConcurrentPointHistoryTable pointHistoryTable = new ConcurrentPointHistoryTable(0L);
+		WriteBehindPointHistoryRecorder pointHistoryRecorder = new WriteBehindPointHistoryRecorder(pointHistoryTable,
+			100, 4);
+
+		// when
+		for (int index = 1; index <= requestCount; index++) {
+			pointHistoryRecorder.record(userId, index * 100L, TransactionType.CHARGE, System.currentTimeMillis());
+		}
+		pointHistoryRecorder.close();
+
+		// then
+		List<Long> amounts = pointHistoryTable.selectAllByUserId(userId).stream().map(PointHistory::amount).toList();
+		assertThat(amounts).containsExactly(100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L, 1000L);
+		assertThat(pointHistoryRecorder.depth()).isZero();
+	}
+
+	/**
+	 * [작성 이유]
+	 * 큐가 가득 찬 경우 내역을 버리지 않으면서도, record()를 호출한 스레드가 회원의 잠금을 잡은 채 무한히 대기하지 않고
+	 * offerTimeoutMillis가 지나면 바로 기록한 뒤 반환하는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 큐가_가득_차면_대기_시간이_지난_뒤_요청한_스레드에서_바로_기록한다() throws InterruptedException {
+		// given
+		final long userId = 123L;
+		final CountDownLatch blocked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		ConcurrentPointHistoryTable pointHistoryTable = new ConcurrentPointHistoryTable(0L) {
+			@Override
+			public List<PointHistory> insertAll(List<NewPointHistory> newPointHistories) {
+				blocked.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException ignored) {
+					Thread.currentThread().interrupt();
+				}
+				return super.insertAll(newPointHistories);
+			}
+		};
+		WriteBehindPointHistoryRecorder pointHistoryRecorder = new WriteBehindPointHistoryRecorder(pointHistoryTable,
+			1, 1, 50L);
+		// writer가 첫 번째 내역을 기록하는 동안 두 번째 내역으로 큐를 가득 채웁니다.
+		pointHistoryRecorder.record(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+		blocked.await();
+		pointHistoryRecorder.record(userId, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+
+		// when
+		pointHistoryRecorder.record(userId, 300L, TransactionType.CHARGE, System.currentTimeMillis());
+		List<Long> amountsBeforeRelease = pointHistoryTable.selectAllByUserId(userId).stream()
+			.map(PointHistory::amount)
+			.toList();
+		release.countDown();
+		pointHistoryRecorder.close();
+
+		// then
+		assertThat(amountsBeforeRelease).containsExactly(300L);
+		assertThat(pointHistoryRecorder.fallbackCount()).isEqualTo(1L);
+		assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(3);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 종료된 이후에 들어온 내역이 기록되지 않은 채 조용히 유실되지 않도록 예외를 발생시키는지 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 종료된_이후에는_내역을_받지_않는다() {
+		// given
+		WriteBehindPointHistoryRecorder pointHistoryRecorder = new WriteBehindPointHistoryRecorder(
+			new ConcurrentPointHistoryTable(0L), 10, 10);
+		pointHistoryRecorder.close();
+
+		// when & then
+		assertThatThrownBy(() -> pointHistoryRecorder.record(123L, 100L, TransactionType.CHARGE, 0L))
+			.isInstanceOf(RejectedExecutionException.class);
+	}
+
+	/**
+	 * [작성 이유]
+	 * 여러 스레드가 내역을 넣는 도중에 종료하더라도, 예외 없이 받아들인 내역은 모두 기록되는지 확인하고자 작성했습니다.
+	 * closed를 확인한 직후에 종료가 시작되면, writer가 먼저 멈춰 그 뒤에 들어온 내역이 유실될 수 있었습니다.
+	 */
+	@Test
+	void 내역을_넣는_도중에_종료해도_받아들인_내역은_모두_기록한다() throws InterruptedException {
+		// given
+		final int threadCount = 8;
+		final AtomicLong acceptedCount = new AtomicLong();
+		ConcurrentPointHistoryTable pointHistoryTable = new ConcurrentPointHistoryTable(0L);
+		WriteBehindPointHistoryRecorder pointHistoryRecorder = new WriteBehindPointHistoryRecorder(pointHistoryTable,
+			16, 4);
+		CompletableFuture<?>[] producers = IntStream.range(0, threadCount)
+			.mapToObj((thread) -> CompletableFuture.runAsync(() -> {
+				while (true) {
+					try {
+						pointHistoryRecorder.record(thread, 100L, TransactionType.CHARGE, 0L);
+						acceptedCount.incrementAndGet();
+					} catch (RejectedExecutionException e) {
+						return;
+					}
+				}
+			}))
+			.toArray(CompletableFuture[]::new);
+		Thread.sleep(50L);
+
+		// when
+		pointHistoryRecorder.close();
+		CompletableFuture.allOf(producers).join();
+
+		// then
+		assertThat(pointHistoryTable.size()).isEqualTo(acceptedCount.get());
+	}
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.enums.PointErrorCode;
 
 class UserPointTest {
 
@@ -177,4 +178,24 @@ class UserPointTest {
 
 	}
 
+	/**
+	 * [작성 이유]
+	 * 잔액보다 많은 포인트를 사용하려 할 때 예외 없이 거절 사유를 반환하고,
+	 * 같은 사유로 거절된 요청은 stack trace가 없는 같은 예외 인스턴스를 재사용하는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 잔액보다_많이_사용하려_하면_미리_만들어_둔_거절_사유를_반환한다() {
+		// given
+		final UserPoint userPoint = new UserPoint(1L, 1_000L, System.currentTimeMillis());
+
+		// when
+		final PointErrorCode errorCode = userPoint.validateUse(2_000L);
+
+		// then
+		assertThat(errorCode).isEqualTo(PointErrorCode.INSUFFICIENT_POINT);
+		assertThat(userPoint.validateUse(1_000L)).isNull();
+		assertThatThrownBy(() -> userPoint.use(2_000L, System.currentTimeMillis()))
+			.isSameAs(PointErrorCode.INSUFFICIENT_POINT.exception());
+		assertThat(PointErrorCode.INSUFFICIENT_POINT.exception().getStackTrace()).isEmpty();
+	}
 }
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.domain.policy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.global.exception.ApplicationException;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+class PointPolicyRegistryTest {
+	private static final PointPolicy.Limits VIP_LIMITS = new PointPolicy.Limits(50_000_000L, 5_000_000L, 5_000_000L);
+
+	/**
+	 * [작성 이유]
+	 * VIP 등급으로 지정된 회원은 기본 한도를 넘어 충전/보유할 수 있고, 등급이 없는 회원은 기본 한도가 적용되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void VIP_등급의_회원은_기본_한도보다_많은_포인트를_보유할_수_있다() {
+		// given
+		final PointPolicyRegistry pointPolicyRegistry = new PointPolicyRegistry(PointPolicy.DEFAULT_TIER,
+			Map.of("vip", VIP_LIMITS));
+		pointPolicyRegistry.assignTier(1L, "vip");
+		final UserPoint userPoint = new UserPoint(1L, 10_000_000L, 0L);
+		final UserPoint otherUserPoint = new UserPoint(2L, 10_000_000L, 0L);
+
+		// when
+		final UserPoint chargedUserPoint = userPoint.charge(5_000_000L, 1L, pointPolicyRegistry.resolve(1L));
+
+		// then
+		assertThat(chargedUserPoint.point()).isEqualTo(15_000_000L);
+		assertThatThrownBy(() -> otherUserPoint.charge(1L, 1L, pointPolicyRegistry.resolve(2L)))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("최대 가질 수 있는 포인트를 초과했습니다.");
+	}
+
+	/**
+	 * [작성 이유]
+	 * 등급의 한도를 바꾸면 이후 요청부터 새로운 한도와 그 한도로 만든 메시지가 적용되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 등급의_한도를_바꾸면_새로운_한도와_메시지가_적용된다() {
+		// given
+		final PointPolicyRegistry pointPolicyRegistry = new PointPolicyRegistry(PointPolicy.DEFAULT_TIER,
+			Map.of("vip", VIP_LIMITS));
+		pointPolicyRegistry.assignTier(1L, "vip");
+		final UserPoint userPoint = new UserPoint(1L, 10_000_000L, 0L);
+		final PointPolicy previousPointPolicy = pointPolicyRegistry.resolve(1L);
+
+		// when
+		pointPolicyRegistry.updateTier("vip", new PointPolicy.Limits(50_000_000L, 5_000_000L, 2_000_000L));
+
+		// then
+		assertThat(previousPointPolicy.limits()).isEqualTo(VIP_LIMITS);
+		assertThat(userPoint.use(3_000_000L, 1L, previousPointPolicy).point()).isEqualTo(7_000_000L);
+		assertThatThrownBy(() -> userPoint.use(3_000_000L, 1L, pointPolicyRegistry.resolve(1L)))
+			.isInstanceOf(ApplicationException.class)
+			.hasMessage("2,000,000 포인트를 초과하여 사용할 수 없습니다.");
+	}
+
+	/**
+	 * [작성 이유]
+	 * 등록되지 않은 등급으로 지정할 수 없고, 등급을 해제하거나 등급이 삭제되면 기본 한도가 적용되는지 확인하기 위해 작성했습니다.
+	 */
+	@Test
+	void 등급이_해제되거나_삭제되면_기본_한도가_적용된다() {
+		// given
+		final PointPolicyRegistry pointPolicyRegistry = new PointPolicyRegistry(PointPolicy.DEFAULT_TIER,
+			Map.of("vip", VIP_LIMITS));
+		pointPolicyRegistry.assignTier(1L, "vip");
+		pointPolicyRegistry.assignTier(2L, "vip");
+
+		// when
+		pointPolicyRegistry.unassignTier(1L, "vip");
+		pointPolicyRegistry.reload(PointPolicy.DEFAULT_TIER, Map.of());
+
+		// then
+		assertThat(pointPolicyRegistry.resolve(1L)).isSameAs(PointPolicy.DEFAULT);
+		assertThat(pointPolicyRegistry.resolve(2L)).isSameAs(PointPolicy.DEFAULT);
+		assertThatThrownBy(() -> pointPolicyRegistry.assignTier(3L, "gold"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("등록되지 않은 등급입니다. tier = gold");
+	}
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.presentation;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * 요청 처리 스레드에서 동시에 실행 중인 요청 수와 그 최댓값을 기록합니다.
+ */
+class InFlightRequestFilter implements Filter {
+	private final AtomicInteger inFlightRequests = new AtomicInteger();
+	private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			inFlightRequests.decrementAndGet();
+		}
+	}
+
+	int maxInFlightRequests() {
+		return maxInFlightRequests.get();
+	}
+}
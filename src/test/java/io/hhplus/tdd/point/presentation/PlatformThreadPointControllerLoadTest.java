@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.presentation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.threads.virtual.enabled=false",
+		"server.tomcat.threads.max=" + PointControllerLoadTestSupport.TOMCAT_MAX_THREADS
+	}
+)
+class PlatformThreadPointControllerLoadTest extends PointControllerLoadTestSupport {
+
+	/**
+	 * [작성 이유]
+	 * 플랫폼 스레드 모드에서는 Tomcat 스레드 수만큼만 요청을 동시에 처리할 수 있음을 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 플랫폼_스레드_모드에서는_Tomcat_스레드_수_이상의_요청을_동시에_처리할_수_없다() {
+		// when
+		int maxInFlightRequests = measureMaxInFlightRequests();
+
+		// then
+		assertThat(maxInFlightRequests).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+	}
+}
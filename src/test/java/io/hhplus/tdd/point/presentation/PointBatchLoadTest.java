@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.presentation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * 처리량 비교는 실행 환경에 따라 결과가 달라지므로 "performance" 태그를 달아 기본 test 태스크에서 제외합니다.
+ * ./gradlew performanceTest 로 따로 실행합니다.
+ */
+@Tag("performance")
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"point.store.type=primitive",
+		"point.history.write-behind=true"
+	}
+)
+class PointBatchLoadTest {
+	private static final int USER_COUNT = 500;
+	private static final int REQUESTS_PER_USER = 4;
+	private static final long AMOUNT = 10L;
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	/**
+	 * [작성 이유]
+	 * 같은 충전 요청을 회원마다 PATCH /point/{id}/charge로 하나씩 호출하는 것보다
+	 * POST /point/batch로 한 번에 요청하는 것이 처리량이 높은지 비교하고자 작성했습니다.
+	 * 두 방식 모두 같은 건수(회원 500명 * 4건)를 요청하며, 경과 시간과 초당 처리 건수를 로그로 남깁니다.
+	 */
+	@Test
+	void 일괄_요청은_같은_건수를_하나씩_호출하는_것보다_처리량이_높다() throws IOException, InterruptedException {
+		// given
+		final int requestCount = USER_COUNT * REQUESTS_PER_USER;
+
+		// when
+		final long sequentialStartNanos = System.nanoTime();
+		for (int round = 0; round < REQUESTS_PER_USER; round++) {
+			for (long userId = 1; userId <= USER_COUNT; userId++) {
+				HttpResponse<Void> response = httpClient.send(
+					HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId + "/charge"))
+						.header("Content-Type", "application/json")
+						.method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\":" + AMOUNT + "}"))
+						.build(),
+					HttpResponse.BodyHandlers.discarding());
+				assertThat(response.statusCode()).isEqualTo(200);
+			}
+		}
+		final long sequentialNanos = System.nanoTime() - sequentialStartNanos;
+
+		final long batchStartNanos = System.nanoTime();
+		HttpResponse<String> batchResponse = httpClient.send(
+			HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/batch"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(batchBody(USER_COUNT + 1L)))
+				.build(),
+			HttpResponse.BodyHandlers.ofString());
+		final long batchNanos = System.nanoTime() - batchStartNanos;
+
+		// then
+		log.info("requests = {}, sequential = {}ms ({}/s), batch = {}ms ({}/s)",
+			requestCount, sequentialNanos / 1_000_000, requestCount * 1_000_000_000L / sequentialNanos,
+			batchNanos / 1_000_000, requestCount * 1_000_000_000L / batchNanos);
+		assertThat(batchResponse.statusCode()).isEqualTo(200);
+		assertThat(batchResponse.body()).doesNotContain("\"error\":\"");
+		assertThat(batchNanos).isLessThan(sequentialNanos);
+	}
+
+	/**
+	 * 하나씩 호출한 회원과 겹치지 않도록 firstUserId부터 USER_COUNT명에게 REQUESTS_PER_USER건씩 충전합니다.
+	 */
+	private static String batchBody(long firstUserId) {
+		StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+		for (int round = 0; round < REQUESTS_PER_USER; round++) {
+			for (long userId = firstUserId; userId < firstUserId + USER_COUNT; userId++) {
+				items.add("{\"userId\":" + userId + ",\"amount\":" + AMOUNT + ",\"type\":\"CHARGE\"}");
+			}
+		}
+		return items.toString();
+	}
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.presentation;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 동시에 요청을 보내 서버가 동시에 처리한 요청 수(in-flight)의 최댓값을 측정합니다.
+ * 모든 요청은 UserPointTable.throttle에서 최대 200ms 동안 잠들기 때문에, 요청 처리 스레드 수가 동시 처리 수의 상한이 됩니다.
+ */
+@Import(InFlightRequestFilter.class)
+abstract class PointControllerLoadTestSupport {
+	protected static final int REQUEST_COUNT = 500;
+	protected static final int TOMCAT_MAX_THREADS = 50;
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private InFlightRequestFilter inFlightRequestFilter;
+
+	protected int measureMaxInFlightRequests() {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(10))
+			.build();
+
+		final long startMillis = System.currentTimeMillis();
+		List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, REQUEST_COUNT)
+			.mapToObj((index) -> httpClient.sendAsync(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (index + 1))).GET().build(),
+				HttpResponse.BodyHandlers.discarding()))
+			.toList();
+		CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+		final long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+		final int maxInFlightRequests = inFlightRequestFilter.maxInFlightRequests();
+		log.info("requests = {}, elapsed = {}ms, max in-flight = {}", REQUEST_COUNT, elapsedMillis,
+			maxInFlightRequests);
+		return maxInFlightRequests;
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.presentation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.threads.virtual.enabled=true",
+		"server.tomcat.threads.max=" + PointControllerLoadTestSupport.TOMCAT_MAX_THREADS
+	}
+)
+class VirtualThreadPointControllerLoadTest extends PointControllerLoadTestSupport {
+
+	/**
+	 * [작성 이유]
+	 * 가상 스레드 모드에서는 throttle로 잠든 요청이 carrier 스레드를 점유하지 않아,
+	 * Tomcat 스레드 수보다 많은 요청을 동시에 처리할 수 있음을 확인하고자 작성했습니다.
+	 */
+	@Test
+	void 가상_스레드_모드에서는_Tomcat_스레드_수보다_많은_요청을_동시에_처리할_수_있다() {
+		// when
+		int maxInFlightRequests = measureMaxInFlightRequests();
+
+		// then
+		assertThat(maxInFlightRequests).isGreaterThan(TOMCAT_MAX_THREADS * 2);
+	}
+}